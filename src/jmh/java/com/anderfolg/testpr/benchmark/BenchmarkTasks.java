@@ -0,0 +1,33 @@
+package com.anderfolg.testpr.benchmark;
+
+import com.anderfolg.testpr.model.DTO.TaskDTO;
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.model.enums.Status;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fixture data shared by the benchmarks.
+ */
+final class BenchmarkTasks {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_000);
+
+    private BenchmarkTasks() {
+    }
+
+    static Task task(long id) {
+        return Task.builder()
+                .id(id)
+                .taskName("Task " + id)
+                .description("Benchmark task number " + id + " with a description of typical length")
+                .status(id % 2 == 0 ? Status.DONE : Status.PENDING)
+                .createdAt(CREATED_AT.plusSeconds(id))
+                .dueDate(CREATED_AT.plusDays(7))
+                .build();
+    }
+
+    static TaskDTO taskDTO(long id) {
+        return new TaskDTO("Task " + id, "Benchmark task number " + id, null, CREATED_AT.plusDays(7));
+    }
+}
@@ -0,0 +1,261 @@
+package com.anderfolg.testpr.benchmark;
+
+import com.anderfolg.testpr.TestPrvtApplication;
+import com.anderfolg.testpr.support.EndpointStatementStats;
+import com.anderfolg.testpr.support.SqlStatementCounter;
+import com.anderfolg.testpr.support.TaskSeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Load test of the task API over HTTP: the application runs against PostgreSQL in a Testcontainers container (Docker
+ * required) with the Flyway schema, seeded with `rows` tasks, e.g. `-Djmh.args="TaskApiLoadBenchmark -p rows=5000000"`.
+ * All benchmark methods form one `mixed` group, so reads and writes run at the same time in the ratio of their
+ * thread counts. Sample-time mode reports each endpoint's p50, p99 and p99.9 latency and its request count; after each
+ * iteration the requests per second and SQL statements per request of every endpoint are printed.
+ * Admission control is disabled so the database, not the rate limits, is what is measured. Streaming endpoints
+ * (`/changes`, `/export`) and asynchronous ingestion are not part of the mix. `getTasksByStatus` returns every task of
+ * a status, which at millions of rows is by far the most expensive request; it runs on one thread only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Fork(1)
+public class TaskApiLoadBenchmark {
+
+    private static final int SAMPLED_IDS = 100_000;
+    private static final int BATCH_SIZE = 10;
+
+    @Param("1000000")
+    private long rows;
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext context;
+    private EndpointStatementStats statementStats;
+    private HttpClient httpClient;
+    private ObjectMapper objectMapper;
+    private String baseUrl;
+    private List<Long> ids;
+    private final ConcurrentLinkedQueue<Long> createdIds = new ConcurrentLinkedQueue<>();
+    private long iterationStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+
+        SpringApplication application = new SpringApplication(TestPrvtApplication.class);
+        application.addInitializers(applicationContext ->
+                ((GenericApplicationContext) applicationContext).registerBean(EndpointStatementStats.class));
+        application.setDefaultProperties(Map.ofEntries(
+                Map.entry("spring.datasource.url", postgres.getJdbcUrl()),
+                Map.entry("spring.datasource.username", postgres.getUsername()),
+                Map.entry("spring.datasource.password", postgres.getPassword()),
+                Map.entry("spring.r2dbc.url", "r2dbc:postgresql://%s:%d/%s".formatted(postgres.getHost(),
+                        postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT), postgres.getDatabaseName())),
+                Map.entry("spring.r2dbc.username", postgres.getUsername()),
+                Map.entry("spring.r2dbc.password", postgres.getPassword()),
+                Map.entry("server.port", "0"),
+                Map.entry(SqlStatementCounter.PROPERTY, SqlStatementCounter.PROPERTY_VALUE),
+                Map.entry("tasks.admission.enabled", "false"),
+                Map.entry("tasks.archive.enabled", "false"),
+                Map.entry("logging.level.root", "WARN")));
+        context = application.run();
+        statementStats = context.getBean(EndpointStatementStats.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        TaskSeeder.seed(jdbcTemplate, rows);
+        ids = TaskSeeder.sampleIds(jdbcTemplate, SAMPLED_IDS);
+
+        httpClient = HttpClient.newHttpClient();
+        objectMapper = context.getBean(ObjectMapper.class);
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort() + "/api";
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        postgres.stop();
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() {
+        statementStats.clear();
+        iterationStart = System.nanoTime();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportIteration() {
+        double seconds = (System.nanoTime() - iterationStart) / 1e9;
+        System.out.printf("%n%s", statementStats.report());
+        System.out.printf("all endpoints: %.0f requests/s%n", statementStats.totalRequests() / seconds);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(4)
+    public int getTaskById() throws Exception {
+        return send(HttpRequest.newBuilder(uri("/tasks/" + randomId())).GET());
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public int getAllTasks() throws Exception {
+        return send(HttpRequest.newBuilder(uri("/tasks?size=50")).GET());
+    }
+
+    @Benchmark
+    @Group("mixed")
+    public int getTaskViews() throws Exception {
+        return send(HttpRequest.newBuilder(uri("/tasks?size=50&fields=id,taskName,status")).GET());
+    }
+
+    @Benchmark
+    @Group("mixed")
+    public int getTasksByStatus() throws Exception {
+        return send(HttpRequest.newBuilder(uri("/tasks/filter/status?status=OVERDUE&fields=id,status")).GET());
+    }
+
+    @Benchmark
+    @Group("mixed")
+    public int searchTasks() throws Exception {
+        String namePrefix = "Task%20" + ThreadLocalRandom.current().nextInt(1, 1000);
+        return send(HttpRequest.newBuilder(uri("/tasks/search?status=PENDING&namePrefix=" + namePrefix + "&size=50&sort=createdAt")).GET());
+    }
+
+    @Benchmark
+    @Group("mixed")
+    public int searchTasksByText() throws Exception {
+        List<String> words = TaskSeeder.WORDS;
+        String q = words.get(ThreadLocalRandom.current().nextInt(words.size())) + "%20" + words.get(ThreadLocalRandom.current().nextInt(words.size()));
+        return send(HttpRequest.newBuilder(uri("/tasks/search/text?q=" + q + "&size=20")).GET());
+    }
+
+    @Benchmark
+    @Group("mixed")
+    public int getTaskStats() throws Exception {
+        return send(HttpRequest.newBuilder(uri("/tasks/stats")).GET());
+    }
+
+    @Benchmark
+    @Group("mixed")
+    public int createTask() throws Exception {
+        HttpResponse<String> response = httpClient.send(json(HttpRequest.newBuilder(uri("/tasks")), "POST",
+                "{\"taskName\":\"Load task\",\"description\":\"Created by the load test\"}"), HttpResponse.BodyHandlers.ofString());
+        checkStatus(response.statusCode());
+        createdIds.add(objectMapper.readTree(response.body()).get("id").asLong());
+        return response.statusCode();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    public int createTasks() throws Exception {
+        String body = IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> "{\"taskName\":\"Load batch task " + i + "\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+        return send(json(HttpRequest.newBuilder(uri("/tasks/batch")), "POST", body));
+    }
+
+    @Benchmark
+    @Group("mixed")
+    public int updateTask() throws Exception {
+        return send(json(HttpRequest.newBuilder(uri("/tasks/" + randomId())), "PUT",
+                "{\"description\":\"Updated by the load test\"}"));
+    }
+
+    @Benchmark
+    @Group("mixed")
+    public int updateTaskStatus() throws Exception {
+        String status = ThreadLocalRandom.current().nextBoolean() ? "DONE" : "PENDING";
+        return send(HttpRequest.newBuilder(uri("/tasks/" + randomId() + "/status?status=" + status))
+                .method("PATCH", HttpRequest.BodyPublishers.noBody()));
+    }
+
+    @Benchmark
+    @Group("mixed")
+    public int updateTaskStatuses() throws Exception {
+        String body = IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> "{\"id\":" + randomId() + ",\"status\":\"OVERDUE\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+        return send(json(HttpRequest.newBuilder(uri("/tasks/status/batch")), "PATCH", body));
+    }
+
+    /**
+     * Deletes tasks created by {@link #createTask()} only, so the seeded tasks the other methods pick stay in place.
+     */
+    @Benchmark
+    @Group("mixed")
+    public int deleteTask() throws Exception {
+        Long id = createdIds.poll();
+        if (id == null) {
+            return 0;
+        }
+        return send(HttpRequest.newBuilder(uri("/tasks/" + id)).DELETE());
+    }
+
+    private long randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private URI uri( String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static HttpRequest json( HttpRequest.Builder builder, String method, String body) {
+        return builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private int send( HttpRequest.Builder builder) throws IOException, InterruptedException {
+        return send(builder.build());
+    }
+
+    private int send( HttpRequest request) throws IOException, InterruptedException {
+        int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        checkStatus(status);
+        return status;
+    }
+
+    private static void checkStatus( int status) {
+        if (status >= 300) {
+            throw new IllegalStateException("Unexpected response status " + status);
+        }
+    }
+}
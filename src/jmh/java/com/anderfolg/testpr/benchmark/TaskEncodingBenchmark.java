@@ -0,0 +1,81 @@
+package com.anderfolg.testpr.benchmark;
+
+import com.anderfolg.testpr.config.ContentNegotiationConfig;
+import com.anderfolg.testpr.model.Task;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares the JSON and CBOR encodings of task list responses, as produced by the application's message converters.
+ * Gzip variants include the cost of response compression. The encoded sizes of each format, with and without gzip,
+ * are printed once per fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskEncodingBenchmark {
+
+    @Param({"json", "cbor"})
+    private String format;
+
+    @Param({"50", "500"})
+    private int listSize;
+
+    private ObjectMapper objectMapper;
+    private List<Task> tasks;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = format.equals("cbor")
+                ? ContentNegotiationConfig.cborObjectMapper(Jackson2ObjectMapperBuilder.json())
+                : Jackson2ObjectMapperBuilder.json().build();
+        tasks = LongStream.rangeClosed(1, listSize).mapToObj(BenchmarkTasks::task).toList();
+        encoded = objectMapper.writeValueAsBytes(tasks);
+        System.out.printf("%n%s, %d tasks: %d bytes, %d bytes gzipped%n", format, listSize, encoded.length, gzip(encoded).length);
+    }
+
+    @Benchmark
+    public byte[] encodeTaskList() throws IOException {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] encodeTaskListGzipped() throws IOException {
+        return gzip(objectMapper.writeValueAsBytes(tasks));
+    }
+
+    @Benchmark
+    public Task[] decodeTaskList() throws IOException {
+        return objectMapper.readValue(encoded, Task[].class);
+    }
+
+    private static byte[] gzip( byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
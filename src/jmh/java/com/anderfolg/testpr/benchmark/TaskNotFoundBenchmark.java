@@ -0,0 +1,138 @@
+package com.anderfolg.testpr.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.helpers.NOPAppender;
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.exception.ExceptionControllerAdvice;
+import com.anderfolg.testpr.exception.TaskNotFoundException;
+import com.anderfolg.testpr.repository.TaskArchiveRepository;
+import com.anderfolg.testpr.repository.TaskRepository;
+import com.anderfolg.testpr.service.TaskServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures a request for a task that does not exist, from the service call to the 404 response entity.
+ * `legacyMiss` does what the request path did before: an INFO log per call, an exception with a stack trace and
+ * an ERROR log when mapping it. `currentMiss` runs `TaskServiceImpl.getTaskById` and `ExceptionControllerAdvice`
+ * as they are now. Both throw from `depth` frames below the benchmark, as a stand-in for the Spring proxies and
+ * filters above a real service call, which are what make stack traces expensive.
+ * The loggers involved log to a no-op appender at INFO, so the log events are built but no I/O is measured.
+ * Run with the GC profiler (the `benchmarks` profile's default) to compare the allocation per miss.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskNotFoundBenchmark {
+
+    private static final org.slf4j.Logger log = LoggerFactory.getLogger(TaskNotFoundBenchmark.class);
+
+    private static final List<Class<?>> LOGGED_CLASSES =
+            List.of(TaskNotFoundBenchmark.class, TaskServiceImpl.class, ExceptionControllerAdvice.class);
+
+    @Param({"20", "100"})
+    private int depth;
+
+    private TaskServiceImpl taskService;
+    private ExceptionControllerAdvice exceptionControllerAdvice;
+    private long missingId;
+
+    @Setup
+    public void setUp() {
+        NOPAppender<ILoggingEvent> appender = new NOPAppender<>();
+        appender.start();
+        for (Class<?> loggedClass : LOGGED_CLASSES) {
+            Logger logger = (Logger) LoggerFactory.getLogger(loggedClass);
+            logger.setLevel(Level.INFO);
+            logger.setAdditive(false);
+            logger.addAppender(appender);
+        }
+        taskService = new TaskServiceImpl(emptyRepository(TaskRepository.class), new TaskProperties(), null, event -> { },
+                emptyRepository(TaskArchiveRepository.class));
+        exceptionControllerAdvice = new ExceptionControllerAdvice();
+        missingId = 42L;
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (Class<?> loggedClass : LOGGED_CLASSES) {
+            Logger logger = (Logger) LoggerFactory.getLogger(loggedClass);
+            logger.detachAndStopAllAppenders();
+            logger.setLevel(null);
+            logger.setAdditive(true);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<String> legacyMiss() {
+        try {
+            return ResponseEntity.ok(String.valueOf(call(depth, this::legacyGetTaskById)));
+        } catch (LegacyTaskNotFoundException e) {
+            log.error("Task not found: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<String> currentMiss() {
+        try {
+            return ResponseEntity.ok(String.valueOf(call(depth, () -> taskService.getTaskById(missingId))));
+        } catch (TaskNotFoundException e) {
+            return exceptionControllerAdvice.handleException(e);
+        }
+    }
+
+    private Object legacyGetTaskById() {
+        log.info("Getting task by id: {}", missingId);
+        throw new LegacyTaskNotFoundException("Task not found with id: " + missingId);
+    }
+
+    private static Object call( int depth, Supplier<Object> lookup) {
+        return depth == 0 ? lookup.get() : call(depth - 1, lookup);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T emptyRepository( Class<T> repositoryType) {
+        return (T) Proxy.newProxyInstance(
+                repositoryType.getClassLoader(),
+                new Class<?>[]{repositoryType},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.empty();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * The not-found exception as it was before, with a stack trace.
+     */
+    private static class LegacyTaskNotFoundException extends RuntimeException {
+
+        LegacyTaskNotFoundException( String message) {
+            super(message);
+        }
+    }
+}
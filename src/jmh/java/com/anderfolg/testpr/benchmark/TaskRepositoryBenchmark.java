@@ -0,0 +1,110 @@
+package com.anderfolg.testpr.benchmark;
+
+import com.anderfolg.testpr.TestPrvtApplication;
+import com.anderfolg.testpr.model.DTO.TaskSearchCriteria;
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.repository.TaskRepository;
+import com.anderfolg.testpr.repository.TaskSpecifications;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Measures `TaskRepository` operations through the full JPA stack against an in-memory H2 database
+ * in PostgreSQL mode. Native Postgres statements (such as UPDATE ... RETURNING) are not covered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskRepositoryBenchmark {
+
+    private static final int SEEDED_TASKS = 10_000;
+    private static final int PAGE_SIZE = 50;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private List<Long> ids;
+    private Task firstTask;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(TestPrvtApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setDefaultProperties(Map.of(
+                "spring.datasource.url", "jdbc:h2:mem:benchmark;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name", "org.h2.Driver",
+                "spring.datasource.username", "sa",
+                "spring.datasource.password", "",
+                "spring.jpa.hibernate.ddl-auto", "create-drop",
+                "spring.flyway.enabled", "false",
+                "tasks.text-search.engine", "in-memory",
+                "tasks.partitions.enabled", "false",
+                "tasks.archive.enabled", "false",
+                "logging.level.root", "WARN"));
+        context = application.run();
+        taskRepository = context.getBean(TaskRepository.class);
+
+        List<Task> saved = taskRepository.saveAll(LongStream.rangeClosed(1, SEEDED_TASKS)
+                .mapToObj(id -> {
+                    Task task = BenchmarkTasks.task(id);
+                    task.setId(null);
+                    return task;
+                })
+                .toList());
+        ids = saved.stream().map(Task::getId).toList();
+        firstTask = saved.get(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Task save() {
+        Task task = BenchmarkTasks.task(0L);
+        task.setId(null);
+        return taskRepository.save(task);
+    }
+
+    @Benchmark
+    public Task findById() {
+        return taskRepository.findById(ids.get(ThreadLocalRandom.current().nextInt(ids.size()))).orElseThrow();
+    }
+
+    @Benchmark
+    public List<Task> findKeysetPage() {
+        return taskRepository.findPageAfter(firstTask.getCreatedAt(), firstTask.getId(), PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<Task> searchByStatusAndNamePrefix() {
+        TaskSearchCriteria criteria = new TaskSearchCriteria(Status.PENDING, null, null, null, null, "Task 1");
+        return taskRepository.findAll(TaskSpecifications.matching(criteria), PageRequest.of(0, PAGE_SIZE, Sort.by("createdAt")));
+    }
+}
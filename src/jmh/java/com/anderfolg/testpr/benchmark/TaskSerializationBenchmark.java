@@ -0,0 +1,72 @@
+package com.anderfolg.testpr.benchmark;
+
+import com.anderfolg.testpr.model.Task;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Measures the Jackson encoding of `Task` responses with the same ObjectMapper defaults Spring Boot uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        task = BenchmarkTasks.task(1L);
+    }
+
+    @State(Scope.Benchmark)
+    public static class TaskList {
+
+        @Param({"50", "500"})
+        private int listSize;
+
+        private List<Task> tasks;
+        private byte[] json;
+
+        @Setup
+        public void setUp() throws Exception {
+            tasks = LongStream.rangeClosed(1, listSize).mapToObj(BenchmarkTasks::task).toList();
+            json = Jackson2ObjectMapperBuilder.json().build().writeValueAsBytes(tasks);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeTask() throws Exception {
+        return objectMapper.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    public byte[] serializeTaskList( TaskList taskList) throws Exception {
+        return objectMapper.writeValueAsBytes(taskList.tasks);
+    }
+
+    @Benchmark
+    public Task[] deserializeTaskList( TaskList taskList) throws Exception {
+        return objectMapper.readValue(taskList.json, Task[].class);
+    }
+}
@@ -0,0 +1,65 @@
+package com.anderfolg.testpr.benchmark;
+
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.model.DTO.TaskDTO;
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.repository.TaskRepository;
+import com.anderfolg.testpr.service.TaskServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the work `TaskServiceImpl` does on its own for creates and updates: building the entity,
+ * validating it and applying partial updates. The repository is an in-memory stub, so the results
+ * exclude persistence, which {@link TaskRepositoryBenchmark} covers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    private TaskServiceImpl taskService;
+    private TaskDTO createDTO;
+    private TaskDTO updateDTO;
+
+    @Setup
+    public void setUp() {
+        Task storedTask = BenchmarkTasks.task(1L);
+        TaskRepository repository = (TaskRepository) Proxy.newProxyInstance(
+                TaskRepository.class.getClassLoader(),
+                new Class<?>[]{TaskRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "save", "saveAndFlush" -> args[0];
+                    case "findById" -> Optional.of(storedTask);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        taskService = new TaskServiceImpl(repository, new TaskProperties(), null, event -> { }, null);
+        createDTO = BenchmarkTasks.taskDTO(1L);
+        updateDTO = new TaskDTO("Renamed task", null, null, null);
+    }
+
+    @Benchmark
+    public Task createTask() {
+        return taskService.createTask(createDTO);
+    }
+
+    @Benchmark
+    public Task updateTask() {
+        return taskService.updateTask(1L, updateDTO, null);
+    }
+}
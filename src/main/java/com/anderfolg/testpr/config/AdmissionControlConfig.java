@@ -0,0 +1,30 @@
+package com.anderfolg.testpr.config;
+
+import com.anderfolg.testpr.controller.impl.TaskAdmissionInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Applies rate limiting and the query bulkhead of {@link TaskAdmissionInterceptor} to the servlet task API,
+ * enabled with `tasks.admission.enabled`.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "tasks.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig implements WebMvcConfigurer {
+
+    private final TaskAdmissionInterceptor taskAdmissionInterceptor;
+
+    public AdmissionControlConfig( TaskProperties taskProperties, MeterRegistry meterRegistry) {
+        this.taskAdmissionInterceptor = new TaskAdmissionInterceptor(taskProperties, meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors( InterceptorRegistry registry) {
+        registry.addInterceptor(taskAdmissionInterceptor).addPathPatterns("/tasks", "/tasks/**");
+    }
+}
@@ -0,0 +1,48 @@
+package com.anderfolg.testpr.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collection;
+
+/**
+ * Registers the bounded Caffeine caches used by the task service.
+ * Statistics are recorded so hits, misses and evictions are published as `cache.*` metrics.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String TASKS = "tasks";
+    public static final String TASKS_BY_STATUS = "tasksByStatus";
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> taskCacheManagerCustomizer( TaskProperties taskProperties) {
+        TaskProperties.Cache cache = taskProperties.getCache();
+        return cacheManager -> {
+            cacheManager.registerCustomCache(TASKS, buildCache(cache.getTasks()));
+            cacheManager.registerCustomCache(TASKS_BY_STATUS, buildCache(cache.getTasksByStatus()));
+        };
+    }
+
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> buildCache( TaskProperties.Cache.Spec spec) {
+        return Caffeine.newBuilder()
+                .maximumWeight(spec.getMaximumTasks())
+                .weigher(CacheConfig::taskCount)
+                .expireAfterWrite(spec.getTimeToLive())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Weighs an entry by the number of tasks it holds, so a status list covering thousands of tasks cannot hide
+     * behind a single cache slot.
+     */
+    static int taskCount( Object key, Object value) {
+        return value instanceof Collection<?> tasks ? Math.max(1, tasks.size()) : 1;
+    }
+}
@@ -0,0 +1,33 @@
+package com.anderfolg.testpr.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Serves every endpoint as CBOR (`application/cbor`) to clients that ask for it in `Accept`; JSON stays the default.
+ * The converter replaces Spring's default CBOR converter in place, so it is only chosen when requested,
+ * and uses the application's Jackson settings except that dates are written as numeric arrays instead of ISO strings.
+ */
+@Configuration
+public class ContentNegotiationConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter( Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return new MappingJackson2CborHttpMessageConverter(cborObjectMapper(objectMapperBuilder));
+    }
+
+    /**
+     * Builds the CBOR mapper from a JSON mapper builder. Shared with the encoding benchmark.
+     */
+    public static ObjectMapper cborObjectMapper( Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return objectMapperBuilder
+                .factory(new CBORFactory())
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+}
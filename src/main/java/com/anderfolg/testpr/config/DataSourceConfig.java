@@ -0,0 +1,79 @@
+package com.anderfolg.testpr.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Declares the JDBC pool from the `spring.datasource` properties.
+ * Spring Boot skips its own DataSource auto-configuration as soon as an R2DBC ConnectionFactory exists,
+ * but JPA keeps serving the MVC API and the background components alongside the reactive API.
+ * When `spring.datasource.replica.url` is set, a second pool is created for the replica and
+ * {@link ReplicaRoutingDataSource} decides per transaction which one to use.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    @ConditionalOnExpression("'${spring.datasource.replica.url:}'.isEmpty()")
+    public HikariDataSource dataSource( DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+    static class ReplicaRoutingConfig {
+
+        @Bean
+        @ConfigurationProperties("spring.datasource.hikari")
+        public HikariDataSource primaryDataSource( DataSourceProperties dataSourceProperties) {
+            return dataSourceProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .build();
+        }
+
+        /**
+         * Connection settings are bound from `spring.datasource.replica` and pool settings from
+         * `spring.datasource.replica.hikari`. The replica needs the same schema as the primary;
+         * locally, pointing it at the primary database is enough.
+         */
+        @Bean
+        @ConfigurationProperties("spring.datasource.replica.hikari")
+        public HikariDataSource replicaDataSource( Environment environment) {
+            return Binder.get(environment)
+                    .bind("spring.datasource.replica", DataSourceProperties.class)
+                    .get()
+                    .initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .build();
+        }
+
+        @Bean
+        @Primary
+        public DataSource dataSource( HikariDataSource primaryDataSource, HikariDataSource replicaDataSource) {
+            ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource();
+            routingDataSource.setTargetDataSources(Map.of(
+                    ReplicaRoutingDataSource.Route.PRIMARY, primaryDataSource,
+                    ReplicaRoutingDataSource.Route.REPLICA, replicaDataSource));
+            routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+            routingDataSource.afterPropertiesSet();
+            return new LazyConnectionDataSourceProxy(routingDataSource);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.anderfolg.testpr.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables `@Timed` on Spring beans. Each timed method publishes a timer tagged with its class, method
+ * and exception, so call counts, latency percentiles and error rates come from the same meter.
+ */
+@Configuration
+public class MetricsConfig {
+
+    public static final String TASK_SERVICE_TIMER = "task.service";
+
+    @Bean
+    public TimedAspect timedAspect( MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,20 @@
+package com.anderfolg.testpr.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Web server setup for the `reactive` profile. Tomcat is on the classpath for the servlet API,
+ * so Netty has to be chosen explicitly to serve requests from a small set of event-loop threads.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
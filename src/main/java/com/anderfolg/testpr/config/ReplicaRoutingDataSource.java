@@ -0,0 +1,41 @@
+package com.anderfolg.testpr.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else to the primary.
+ * Once a request has run a read-write transaction, its later read-only transactions also go to the primary,
+ * so a request always reads its own writes regardless of replication lag. Work outside a transaction uses the primary.
+ * Must be wrapped in a `LazyConnectionDataSourceProxy`, so the connection is only taken once the transaction
+ * has been marked read-only.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    static final String WROTE_ATTRIBUTE = ReplicaRoutingDataSource.class.getName() + ".WROTE";
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (request != null) {
+                request.setAttribute(WROTE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+            }
+            return Route.PRIMARY;
+        }
+        if (request != null && request.getAttribute(WROTE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+}
@@ -0,0 +1,21 @@
+package com.anderfolg.testpr.config;
+
+import com.anderfolg.testpr.repository.ReactiveTaskRepository;
+import com.anderfolg.testpr.repository.TaskRepository;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+
+/**
+ * Splits the repository package between Spring Data JPA and R2DBC.
+ * `Task` is a JPA entity, so without these filters JPA would also claim the reactive repository.
+ */
+@Configuration
+@EnableJpaRepositories(basePackageClasses = TaskRepository.class,
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ReactiveTaskRepository.class))
+@EnableR2dbcRepositories(basePackageClasses = ReactiveTaskRepository.class,
+        includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ReactiveTaskRepository.class))
+public class RepositoryConfig {
+}
@@ -0,0 +1,12 @@
+package com.anderfolg.testpr.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables `@Scheduled` methods. They run on Boot's auto-configured `taskScheduler`, sized by `spring.task.scheduling`.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,52 @@
+package com.anderfolg.testpr.config;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.List;
+
+/**
+ * Creates the beans that no request to the task API needs on first use instead of at startup. Today these are the
+ * springdoc beans behind `/api-docs` and the Swagger UI: their handler mappings are still registered at startup, and
+ * the beans are created by the first request to them. How much startup time this saves has not been measured.
+ */
+@Configuration(proxyBeanMethods = false)
+public class StartupConfig {
+
+    static final List<String> LAZY_PACKAGES = List.of("org.springdoc.");
+
+    /**
+     * Static, so it is registered before the other beans of this class are processed. With Spring AOT the lazy flags
+     * are recorded in the generated bean definitions at build time.
+     */
+    @Bean
+    public static BeanFactoryPostProcessor lazyNonCriticalBeans() {
+        return beanFactory -> {
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                if (isNonCritical(definition)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    /**
+     * A bean is non-critical when its class, or the configuration class declaring its `@Bean` method, is in one of the
+     * lazy packages.
+     */
+    static boolean isNonCritical( BeanDefinition definition) {
+        String source = definition.getBeanClassName();
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            if (factoryMethod != null) {
+                source = factoryMethod.getDeclaringClassName();
+            }
+        }
+        return source != null && LAZY_PACKAGES.stream().anyMatch(source::startsWith);
+    }
+}
@@ -0,0 +1,221 @@
+package com.anderfolg.testpr.config;
+
+import com.anderfolg.testpr.model.enums.OverdueAction;
+import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.model.enums.TextSearchEngine;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Externalized settings for the task API, bound from the `tasks.*` properties.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tasks")
+public class TaskProperties {
+
+    private final Pagination pagination = new Pagination();
+    private final Batch batch = new Batch();
+    private final Cache cache = new Cache();
+    private final Ingestion ingestion = new Ingestion();
+    private final Changes changes = new Changes();
+    private final Stats stats = new Stats();
+    private final DueDates dueDates = new DueDates();
+    private final TextSearch textSearch = new TextSearch();
+    private final Idempotency idempotency = new Idempotency();
+    private final Partitions partitions = new Partitions();
+    private final Archive archive = new Archive();
+    private final Admission admission = new Admission();
+
+    /**
+     * Page sizes used by the keyset-paginated task listing.
+     */
+    @Getter
+    @Setter
+    public static class Pagination {
+        private int defaultSize = 50;
+        private int maxSize = 500;
+    }
+
+    /**
+     * Limits of the bulk create and status-change operations.
+     * The flush size should match `hibernate.jdbc.batch_size` so every flush sends full JDBC batches.
+     */
+    @Getter
+    @Setter
+    public static class Batch {
+        private int maxSize = 10_000;
+        private int flushSize = 100;
+    }
+
+    /**
+     * Bounds of the in-process task caches. Each cache holds at most `maximumTasks` tasks: a cached status list
+     * counts once per task it contains, and a list larger than the bound is not kept. The status cache holds whole
+     * result lists, so it is also kept short-lived.
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+        private final Spec tasks = new Spec(10_000, Duration.ofMinutes(10));
+        private final Spec tasksByStatus = new Spec(10_000, Duration.ofSeconds(30));
+
+        @Getter
+        @Setter
+        @AllArgsConstructor
+        public static class Spec {
+            private long maximumTasks;
+            private Duration timeToLive;
+        }
+    }
+
+    /**
+     * Write-behind ingestion of new tasks. When enabled, accepted tasks wait in a bounded queue and are
+     * written in batches of up to `batchSize`, at most `maxDelay` after the first task of a batch arrived.
+     * A write failing transiently is attempted up to `writeAttempts` times, waiting `retryBackoff`, then twice as long.
+     */
+    @Getter
+    @Setter
+    public static class Ingestion {
+        private boolean enabled = false;
+        private int queueCapacity = 10_000;
+        private int batchSize = 500;
+        private Duration maxDelay = Duration.ofMillis(200);
+        private Duration shutdownTimeout = Duration.ofSeconds(30);
+        private long trackedReceipts = 100_000;
+        private Duration receiptTimeToLive = Duration.ofHours(1);
+        private int writeAttempts = 3;
+        private Duration retryBackoff = Duration.ofMillis(200);
+    }
+
+    /**
+     * Change feed served at `/tasks/changes`. Subscribers more than `bufferSize` changes behind are reset.
+     * Event streams are written by `streamWorkers` dedicated threads.
+     */
+    @Getter
+    @Setter
+    public static class Changes {
+        private int bufferSize = 10_000;
+        private int maxBatchSize = 500;
+        private Duration streamTimeout = Duration.ofMinutes(30);
+        private Duration pollTimeout = Duration.ofSeconds(30);
+        private Duration heartbeatInterval = Duration.ofSeconds(15);
+        private int streamWorkers = 4;
+    }
+
+    /**
+     * Task counters served at `/tasks/stats`, rebuilt from the database every `reconcileInterval`.
+     */
+    @Getter
+    @Setter
+    public static class Stats {
+        private Duration reconcileInterval = Duration.ofMinutes(5);
+    }
+
+    /**
+     * Background processing of overdue tasks, enabled with `tasks.due-dates.enabled`. Every `interval` the pending tasks
+     * past their due date are split into `workers` ID ranges and handled `chunkSize` tasks per statement.
+     * `MARK` moves them to `markStatus`; `NOTIFY` only hands them to the registered `OverdueTaskHandler`s.
+     */
+    @Getter
+    @Setter
+    public static class DueDates {
+        private boolean enabled = false;
+        private Duration interval = Duration.ofMinutes(1);
+        private OverdueAction action = OverdueAction.MARK;
+        private Status markStatus = Status.OVERDUE;
+        private int chunkSize = 1_000;
+        private int workers = 4;
+    }
+
+    /**
+     * Full-text search served at `/tasks/search/text`. `POSTGRES` queries a generated `tsvector` column through a GIN index;
+     * `IN_MEMORY` keeps an inverted index in the application, for tests and databases without text search.
+     */
+    @Getter
+    @Setter
+    public static class TextSearch {
+        private TextSearchEngine engine = TextSearchEngine.POSTGRES;
+    }
+
+    /**
+     * Idempotent task creation with an `Idempotency-Key` header. Keys are stored in the database for `timeToLive`
+     * and purged every `purgeInterval`; the responses of up to `maximumSize` recent keys are also kept in memory.
+     * Retries of the same key are serialized by one of `lockStripes` locks.
+     */
+    @Getter
+    @Setter
+    public static class Idempotency {
+        private long maximumSize = 10_000;
+        private Duration timeToLive = Duration.ofHours(24);
+        private Duration purgeInterval = Duration.ofHours(1);
+        private int lockStripes = 64;
+    }
+
+    /**
+     * Monthly partitions of the `task` table. Every `checkInterval` the partitions of the current month and the next
+     * `monthsAhead` months are created if missing, so new tasks never land in the default partition. Empty partitions
+     * of months that ended more than `archive.olderThan` ago are dropped.
+     */
+    @Getter
+    @Setter
+    public static class Partitions {
+        private boolean enabled = true;
+        private int monthsAhead = 3;
+        private Duration checkInterval = Duration.ofHours(12);
+    }
+
+    /**
+     * Archival of completed tasks. Every `interval`, DONE tasks created more than `olderThan` ago are moved to the
+     * `task_archive` table, `batchSize` tasks per statement.
+     */
+    @Getter
+    @Setter
+    public static class Archive {
+        private boolean enabled = true;
+        private Duration interval = Duration.ofMinutes(10);
+        private Duration olderThan = Duration.ofDays(30);
+        private int batchSize = 1_000;
+    }
+
+    /**
+     * Admission control of the task API. Every client gets a token bucket per endpoint, refilled at `refillPerSecond`
+     * and holding up to `capacity` tokens; `endpoints` overrides the limit by controller method name. Clients are told
+     * apart by `clientHeader` when set (e.g. behind a gateway), otherwise by remote address. The `bulkhead` endpoints
+     * additionally share `maxConcurrent` permits, which should stay below the JDBC pool size.
+     */
+    @Getter
+    @Setter
+    public static class Admission {
+        private boolean enabled = true;
+        private String clientHeader;
+        private long trackedBuckets = 100_000;
+        private Duration idleTimeout = Duration.ofMinutes(10);
+        private Limit limit = new Limit(100, 50);
+        private Map<String, Limit> endpoints = new HashMap<>();
+        private final Bulkhead bulkhead = new Bulkhead();
+
+        @Getter
+        @Setter
+        @NoArgsConstructor
+        @AllArgsConstructor
+        public static class Limit {
+            private int capacity;
+            private double refillPerSecond;
+        }
+
+        @Getter
+        @Setter
+        public static class Bulkhead {
+            private int maxConcurrent = 8;
+            private List<String> endpoints = List.of("getAllTasks", "getTasksByStatus", "searchTasks", "searchTasksByText");
+        }
+    }
+}
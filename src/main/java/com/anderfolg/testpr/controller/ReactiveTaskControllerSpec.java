@@ -0,0 +1,77 @@
+package com.anderfolg.testpr.controller;
+
+import com.anderfolg.testpr.model.DTO.TaskDTO;
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.model.enums.Status;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Tag(name = "Task (reactive)", description = "Task management served by WebFlux and R2DBC")
+public interface ReactiveTaskControllerSpec {
+
+    @Operation(summary = "Create a new task",
+            tags = {"createTask"},
+            responses = {@ApiResponse(responseCode = "201", description = "Task created", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))),
+                    @ApiResponse(responseCode = "400", description = "Bad request (e.g., empty task name)")})
+    Mono<ResponseEntity<Task>> createTask( @RequestBody TaskDTO taskDTO);
+
+    @Operation(summary = "Retrieve a Task by ID",
+            description = "The response includes an ETag of the task version; send it back in If-None-Match to skip the body while the task is unchanged.",
+            tags = {"tasks", "get"},
+            responses = {@ApiResponse(responseCode = "200", description = "Task retrieved", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))),
+                    @ApiResponse(responseCode = "304", description = "Task unchanged since the ETag in If-None-Match"),
+                    @ApiResponse(responseCode = "404", description = "Task not found")})
+    Mono<ResponseEntity<Task>> getTaskById( @PathVariable Long id);
+
+    @Operation(summary = "Stream All Tasks",
+            description = "Streams all tasks as they are read, honouring client backpressure. Request application/x-ndjson to receive one task per line.",
+            tags = {"tasks", "getAll"},
+            responses = {@ApiResponse(responseCode = "200", description = "Stream of tasks", content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = Task.class)))})
+    Flux<Task> getAllTasks();
+
+    @Operation(summary = "Stream Tasks by Status",
+            description = "Streams the tasks with the specified status as they are read, honouring client backpressure.",
+            tags = {"tasks", "filter"},
+            responses = {@ApiResponse(responseCode = "200", description = "Stream of tasks with specified status", content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = Task.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid status parameter")})
+    Flux<Task> getTasksByStatus( @RequestParam Status status);
+
+    @Operation(summary = "Update a Task",
+            description = "With If-Match, the update only applies to that version of the task.",
+            tags = {"tasks", "update"},
+            responses = {@ApiResponse(responseCode = "200", description = "Task updated", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))),
+                    @ApiResponse(responseCode = "400", description = "Bad request (e.g., invalid data)"),
+                    @ApiResponse(responseCode = "404", description = "Task not found"),
+                    @ApiResponse(responseCode = "409", description = "Task was modified concurrently"),
+                    @ApiResponse(responseCode = "412", description = "If-Match does not name the current version of the task")})
+    Mono<ResponseEntity<Task>> updateTask( @PathVariable Long id, @RequestBody TaskDTO taskDTO,
+                                           @RequestHeader(value = "If-Match", required = false) String ifMatch);
+
+    @Operation(summary = "Update Task Status",
+            description = "With If-Match, the update only applies to that version of the task.",
+            tags = {"tasks", "updateStatus"},
+            responses = {@ApiResponse(responseCode = "200", description = "Task status updated", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))),
+                    @ApiResponse(responseCode = "404", description = "Task not found"),
+                    @ApiResponse(responseCode = "412", description = "If-Match does not name the current version of the task")})
+    Mono<ResponseEntity<Task>> updateTaskStatus( @PathVariable Long id, @RequestParam Status status,
+                                                 @RequestHeader(value = "If-Match", required = false) String ifMatch);
+
+    @Operation(summary = "Delete Task",
+            description = "With If-Match, only that version of the task is deleted.",
+            tags = {"tasks", "delete"},
+            responses = {@ApiResponse(responseCode = "200", description = "Task deleted"),
+                    @ApiResponse(responseCode = "404", description = "Task not found"),
+                    @ApiResponse(responseCode = "412", description = "If-Match does not name the current version of the task")})
+    Mono<Void> deleteTask( @PathVariable Long id,
+                           @RequestHeader(value = "If-Match", required = false) String ifMatch);
+}
@@ -1,6 +1,13 @@
 package com.anderfolg.testpr.controller;
 
+import com.anderfolg.testpr.model.DTO.TaskChangeBatch;
 import com.anderfolg.testpr.model.DTO.TaskDTO;
+import com.anderfolg.testpr.model.DTO.TaskIngestionReceipt;
+import com.anderfolg.testpr.model.DTO.TaskPage;
+import com.anderfolg.testpr.model.DTO.TaskStats;
+import com.anderfolg.testpr.model.DTO.TaskStatusUpdateDTO;
+import com.anderfolg.testpr.model.DTO.TaskView;
+import com.anderfolg.testpr.model.DTO.TaskViewPage;
 import com.anderfolg.testpr.model.Task;
 import com.anderfolg.testpr.model.enums.Status;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,65 +16,172 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
-@Tag(name = "Task", description = "Task management")
+import java.util.UUID;
+@Tag(name = "Task", description = "Task management. Responses are JSON by default, or CBOR with Accept: application/cbor.")
 public interface TaskControllerSpec {
 
+    String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     @Operation(
             summary = "Create a new task",
-            description = "Create a new task by providing task details",
+            description = "Create a new task by providing task details. With asynchronous ingestion enabled the task is queued and written in the background; the response carries a tracking id instead of the task. "
+                    + "With an Idempotency-Key the task is always written right away, and retries with the same key return the task created by the first request instead of creating another one.",
             tags = {"createTask"},
-            responses = {@ApiResponse(responseCode = "201", description = "Task created", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class)))})
-    ResponseEntity<Task> createTask( @RequestBody TaskDTO taskDTO);
+            responses = {@ApiResponse(responseCode = "201", description = "Task created", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))),
+                    @ApiResponse(responseCode = "202", description = "Task queued for ingestion", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskIngestionReceipt.class))),
+                    @ApiResponse(responseCode = "400", description = "Bad request (e.g., empty task name or idempotency key)"),
+                    @ApiResponse(responseCode = "422", description = "Idempotency key already used with a different request"),
+                    @ApiResponse(responseCode = "503", description = "Ingestion queue is full; retry after the Retry-After delay")})
+    ResponseEntity<?> createTask( @RequestBody TaskDTO taskDTO,
+                                  @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey);
+
+    @Operation(
+            summary = "Look up a queued task",
+            description = "Returns the state of a task submitted through asynchronous ingestion and, once written, its id.",
+            tags = {"createTask"},
+            responses = {@ApiResponse(responseCode = "200", description = "Ingestion receipt", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskIngestionReceipt.class))),
+                    @ApiResponse(responseCode = "404", description = "Unknown or expired tracking id, or ingestion disabled")})
+    ResponseEntity<TaskIngestionReceipt> getIngestionReceipt( @PathVariable UUID trackingId);
+
+    @Operation(
+            summary = "Create tasks in bulk",
+            description = "Creates several tasks in a single transaction. Inserts are sent to the database in JDBC batches. "
+                    + "With an Idempotency-Key, retries with the same key return the tasks created by the first request instead of creating them again.",
+            tags = {"createTask", "batch"},
+            responses = {@ApiResponse(responseCode = "201", description = "Tasks created", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))),
+                    @ApiResponse(responseCode = "400", description = "Bad request (e.g., empty task name, too many tasks or invalid idempotency key)"),
+                    @ApiResponse(responseCode = "422", description = "Idempotency key already used with a different request")})
+    ResponseEntity<List<Task>> createTasks( @RequestBody List<TaskDTO> taskDTOs,
+                                            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey);
 
     @Operation(summary = "Retrieve a Task by ID",
-            description = "Retrieves a task by its unique identifier. The response includes the task details (id, title, description, etc.).",
+            description = "Retrieves a task by its unique identifier. The response includes the task details (id, title, description, etc.) "
+                    + "and an ETag of the task version; send it back in If-None-Match to skip the body while the task is unchanged. "
+                    + "Completed tasks that were moved to the archive are still found, but can no longer be changed.",
             tags = {"tasks", "get"},
             responses = {@ApiResponse(responseCode = "200", description = "Task retrieved", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))),
+                    @ApiResponse(responseCode = "304", description = "Task unchanged since the ETag in If-None-Match"),
                     @ApiResponse(responseCode = "404" , description = "Task not found")})
     ResponseEntity<Task> getTaskById( @PathVariable Long id);
 
 
     @Operation(summary = "Retrieve All Tasks",
-            description = "Retrieves a list of all tasks.",
+            description = "Retrieves one page of tasks ordered by creation time. Pass the returned nextCursor to fetch the following page; it is null on the last page. "
+                    + "With fields (e.g. id,taskName,status) only those fields are read and returned.",
             tags = {"tasks", "getAll"},  // Mimic the format from TutorialController
-            responses = {@ApiResponse(responseCode = "200", description = "List of tasks", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class)))})
-    ResponseEntity<List<Task>> getAllTasks();
+            responses = {@ApiResponse(responseCode = "200", description = "Page of tasks", content = @Content(mediaType = "application/json", schema = @Schema(oneOf = {TaskPage.class, TaskViewPage.class}))),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor, page size or field")})
+    ResponseEntity<?> getAllTasks( @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size,
+                                   @RequestParam(required = false) String fields);
 
     @Operation(summary = "Filter Tasks by Status",
-            description = "Retrieves a list of tasks with the specified status.",
+            description = "Retrieves a list of tasks with the specified status. With fields (e.g. id,taskName,status) only those fields are read and returned. "
+                    + "Archived DONE tasks are not listed; they are only returned by ID.",
             tags = {"tasks", "filter"},  // Mimic the format from TutorialController
-            responses = {@ApiResponse(responseCode = "200", description = "List of tasks with specified status", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))),
-                    @ApiResponse(responseCode = "400", description = "Invalid status parameter")})
-    ResponseEntity<List<Task>> getTasksByStatus( @RequestParam Status status);
+            responses = {@ApiResponse(responseCode = "200", description = "List of tasks with specified status", content = @Content(mediaType = "application/json", schema = @Schema(oneOf = {Task.class, TaskView.class}))),
+                    @ApiResponse(responseCode = "400", description = "Invalid status or field parameter")})
+    ResponseEntity<?> getTasksByStatus( @RequestParam Status status, @RequestParam(required = false) String fields);
+
+    @Operation(summary = "Search Tasks",
+            description = "Retrieves a page of tasks matching all the given filters: status, due-date window [dueFrom, dueTo), creation window [createdFrom, createdTo) and task name prefix. "
+                    + "Omitted filters are ignored. Sorting is supported on id, taskName, status, createdAt and dueDate.",
+            tags = {"tasks", "filter", "search"},
+            responses = {@ApiResponse(responseCode = "200", description = "Page of matching tasks", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Page.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid filter or sort parameter")})
+    ResponseEntity<Page<Task>> searchTasks( @RequestParam(required = false) Status status,
+                                            @RequestParam(required = false) LocalDateTime dueFrom,
+                                            @RequestParam(required = false) LocalDateTime dueTo,
+                                            @RequestParam(required = false) LocalDateTime createdFrom,
+                                            @RequestParam(required = false) LocalDateTime createdTo,
+                                            @RequestParam(required = false) String namePrefix,
+                                            @ParameterObject Pageable pageable);
+
+    @Operation(summary = "Search Tasks by Text",
+            description = "Retrieves a page of tasks whose name or description contains all the words of q, best matches first. Name matches rank above description matches. "
+                    + "With the PostgreSQL engine, \"quoted phrases\", or and -excluded words are also supported. The sort parameter is ignored.",
+            tags = {"tasks", "search"},
+            responses = {@ApiResponse(responseCode = "200", description = "Page of matching tasks", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Page.class))),
+                    @ApiResponse(responseCode = "400", description = "Empty query")})
+    ResponseEntity<Page<Task>> searchTasksByText( @RequestParam String q, @ParameterObject Pageable pageable);
+
+    @Operation(summary = "Task Statistics",
+            description = "Returns the number of tasks per status and the number of overdue tasks (PENDING with a due date before the current minute). "
+                    + "Served from in-memory counters that are reconciled with the database periodically; reconciledAt tells when that last happened.",
+            tags = {"tasks", "stats"},
+            responses = {@ApiResponse(responseCode = "200", description = "Task statistics", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskStats.class)))})
+    ResponseEntity<TaskStats> getTaskStats();
+
+    @Operation(summary = "Stream Task Changes",
+            description = "Opens a Server-Sent Events stream of committed task changes (CREATED, UPDATED, STATUS_CHANGED, DELETED). "
+                    + "Each event id is its sequence number; reconnect with Last-Event-ID (or after) to resume without gaps. "
+                    + "A 'reset' event means the requested position is no longer available and the client must reload its tasks.",
+            tags = {"tasks", "changes"},
+            responses = {@ApiResponse(responseCode = "200", description = "Event stream", content = @Content(mediaType = "text/event-stream"))})
+    SseEmitter streamChanges( @RequestParam(required = false) Long after,
+                              @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId);
+
+    @Operation(summary = "Poll Task Changes",
+            description = "Long-polls for task changes after the given sequence. Answers as soon as changes are available, "
+                    + "or with an empty batch when the poll timeout passes. A reset batch means the client must reload its tasks.",
+            tags = {"tasks", "changes"},
+            responses = {@ApiResponse(responseCode = "200", description = "Batch of changes", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskChangeBatch.class)))})
+    DeferredResult<TaskChangeBatch> pollChanges( @RequestParam long after);
 
     @Operation(summary = "Update a Task",
-            description = "Updates an existing task with the provided details (optional body).",
+            description = "Updates an existing task with the provided details (optional body). With If-Match, the update only applies to that version of the task.",
             tags = {"tasks", "update"},
             responses = {@ApiResponse(responseCode = "200", description = "Task updated", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))),
                     @ApiResponse(responseCode = "400", description = "Bad request (e.g., invalid data)"),
-                    @ApiResponse(responseCode = "404", description = "Task not found")})
-    ResponseEntity<Task> updateTask( @PathVariable Long id, @RequestBody TaskDTO taskDTO);
+                    @ApiResponse(responseCode = "404", description = "Task not found"),
+                    @ApiResponse(responseCode = "409", description = "Task was modified concurrently"),
+                    @ApiResponse(responseCode = "412", description = "If-Match does not name the current version of the task")})
+    ResponseEntity<Task> updateTask( @PathVariable Long id, @RequestBody TaskDTO taskDTO,
+                                     @RequestHeader(value = "If-Match", required = false) String ifMatch);
 
     @Operation(summary = "Update Task Status",
-            description = "Updates the status of an existing task.",
+            description = "Updates the status of an existing task. With If-Match, the update only applies to that version of the task.",
             tags = {"tasks", "updateStatus"},
             responses = {@ApiResponse(responseCode = "200", description = "Task status updated", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))),
                     @ApiResponse(responseCode = "400", description = "Bad request (e.g., invalid status)"),
+                    @ApiResponse(responseCode = "404", description = "Task not found"),
+                    @ApiResponse(responseCode = "412", description = "If-Match does not name the current version of the task")})
+    ResponseEntity<Task> updateTaskStatus( @PathVariable Long id, @RequestParam Status status,
+                                           @RequestHeader(value = "If-Match", required = false) String ifMatch);
+
+    @Operation(summary = "Update Task Statuses in bulk",
+            description = "Updates the status of several existing tasks in a single transaction. Either all tasks are updated or none.",
+            tags = {"tasks", "updateStatus", "batch"},
+            responses = {@ApiResponse(responseCode = "200", description = "Task statuses updated", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))),
+                    @ApiResponse(responseCode = "400", description = "Bad request (e.g., too many updates)"),
                     @ApiResponse(responseCode = "404", description = "Task not found")})
-    ResponseEntity<Task> updateTaskStatus( @PathVariable Long id, @RequestParam Status status);
+    ResponseEntity<List<Task>> updateTaskStatuses( @RequestBody List<TaskStatusUpdateDTO> updates);
 
     @Operation(summary = "Delete Task",
-            description = "Deletes the existing task.",
+            description = "Deletes the existing task. With If-Match, only that version of the task is deleted.",
             tags = {"tasks", "delete"},
             responses = {@ApiResponse(responseCode = "200", description = "Task status deleted", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))),
-                    @ApiResponse(responseCode = "404", description = "Task not found")})
-    ResponseEntity<Task> deleteTask( @PathVariable Long id);
-}
-
+                    @ApiResponse(responseCode = "404", description = "Task not found"),
+                    @ApiResponse(responseCode = "412", description = "If-Match does not name the current version of the task")})
+    ResponseEntity<Task> deleteTask( @PathVariable Long id,
+                                     @RequestHeader(value = "If-Match", required = false) String ifMatch);
 
+    @Operation(summary = "Export All Tasks",
+            description = "Streams every task as newline-delimited JSON, one task per line. The response is written while the tasks are read, so memory use stays constant.",
+            tags = {"tasks", "export"},
+            responses = {@ApiResponse(responseCode = "200", description = "Tasks as NDJSON", content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = Task.class)))})
+    ResponseEntity<StreamingResponseBody> exportTasks();
+}
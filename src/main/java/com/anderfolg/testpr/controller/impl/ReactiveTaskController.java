@@ -0,0 +1,75 @@
+package com.anderfolg.testpr.controller.impl;
+
+import com.anderfolg.testpr.controller.ReactiveTaskControllerSpec;
+import com.anderfolg.testpr.model.DTO.TaskDTO;
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.service.ReactiveTaskService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/tasks")
+@RequiredArgsConstructor
+public class ReactiveTaskController implements ReactiveTaskControllerSpec {
+
+    private final ReactiveTaskService reactiveTaskService;
+
+    @Override
+    @PostMapping
+    public Mono<ResponseEntity<Task>> createTask( @RequestBody TaskDTO taskDTO) {
+        return reactiveTaskService.createTask(taskDTO)
+                .map(task -> ResponseEntity.status(HttpStatus.CREATED).eTag(TaskETags.of(task)).body(task));
+    }
+
+    @Override
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Task>> getTaskById( @PathVariable Long id) {
+        // With the ETag set, a matching If-None-Match is answered with 304 and no body.
+        return reactiveTaskService.getTaskById(id)
+                .map(task -> ResponseEntity.ok().eTag(TaskETags.of(task)).body(task));
+    }
+
+    @Override
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<Task> getAllTasks() {
+        return reactiveTaskService.getAllTasks();
+    }
+
+    @Override
+    @GetMapping(value = "/filter/status", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<Task> getTasksByStatus( @RequestParam Status status) {
+        return reactiveTaskService.getTasksByStatus(status);
+    }
+
+    @Override
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<Task>> updateTask( @PathVariable Long id, @RequestBody TaskDTO taskDTO,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return reactiveTaskService.updateTask(id, taskDTO, TaskETags.expectedVersion(ifMatch))
+                .map(task -> ResponseEntity.ok().eTag(TaskETags.of(task)).body(task));
+    }
+
+    @Override
+    @PatchMapping("/{id}/status")
+    public Mono<ResponseEntity<Task>> updateTaskStatus( @PathVariable Long id, @RequestParam Status status,
+                                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return reactiveTaskService.updateTaskStatus(id, status, TaskETags.expectedVersion(ifMatch))
+                .map(task -> ResponseEntity.ok().eTag(TaskETags.of(task)).body(task));
+    }
+
+    @Override
+    @DeleteMapping("/{id}")
+    public Mono<Void> deleteTask( @PathVariable Long id,
+                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return reactiveTaskService.deleteTask(id, TaskETags.expectedVersion(ifMatch));
+    }
+}
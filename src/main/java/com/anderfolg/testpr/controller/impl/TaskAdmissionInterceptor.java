@@ -0,0 +1,121 @@
+package com.anderfolg.testpr.controller.impl;
+
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.exception.AdmissionRejectedException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Admission control for `TaskController`, registered by {@code AdmissionControlConfig}.
+ * Every request takes a token from the bucket of its client and endpoint, the endpoint being the controller method name.
+ * Requests to the bulkhead endpoints also need one of a fixed number of permits shared by all clients, so expensive
+ * queries cannot take every JDBC connection. Rejected requests fail with an `AdmissionRejectedException` without waiting.
+ * Buckets are lock-free and kept in a concurrent cache that forgets idle clients, and permits are only tried, never
+ * waited for, so the limiter itself does not make requests contend.
+ * Outcomes are counted in `task.admission`, tagged with the endpoint and `admitted`, `rate_limited` or `bulkhead_full`.
+ */
+public class TaskAdmissionInterceptor implements HandlerInterceptor {
+
+    private static final String BULKHEAD_PERMIT = TaskAdmissionInterceptor.class.getName() + ".permit";
+    private static final Duration BULKHEAD_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final TaskProperties.Admission properties;
+    private final Map<String, TaskProperties.Admission.Limit> endpointLimits = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Set<String> bulkheadEndpoints = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    private final Cache<BucketKey, TokenBucket> buckets;
+    private final Semaphore bulkhead;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Outcomes> outcomes = new ConcurrentHashMap<>();
+
+    public TaskAdmissionInterceptor( TaskProperties taskProperties, MeterRegistry meterRegistry) {
+        this.properties = taskProperties.getAdmission();
+        TokenBucket.validate("every endpoint", properties.getLimit());
+        properties.getEndpoints().forEach(TokenBucket::validate);
+        this.endpointLimits.putAll(properties.getEndpoints());
+        this.bulkheadEndpoints.addAll(properties.getBulkhead().getEndpoints());
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getTrackedBuckets())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+        this.bulkhead = new Semaphore(properties.getBulkhead().getMaxConcurrent());
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("task.admission.bulkhead.active", bulkhead,
+                        permits -> properties.getBulkhead().getMaxConcurrent() - permits.availablePermits())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle( HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Async dispatches resume a request that was already admitted.
+        if (!(handler instanceof HandlerMethod handlerMethod) || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        String endpoint = handlerMethod.getMethod().getName();
+        Outcomes counters = outcomes.computeIfAbsent(endpoint, this::outcomes);
+
+        TaskProperties.Admission.Limit limit = endpointLimits.getOrDefault(endpoint, properties.getLimit());
+        long wait = buckets.get(new BucketKey(client(request), endpoint), key -> new TokenBucket(limit, System.nanoTime()))
+                .tryAcquire(System.nanoTime());
+        if (wait > 0) {
+            counters.rateLimited().increment();
+            throw new AdmissionRejectedException("Rate limit exceeded for " + endpoint, Duration.ofNanos(wait));
+        }
+        if (bulkheadEndpoints.contains(endpoint)) {
+            if (!bulkhead.tryAcquire()) {
+                counters.bulkheadFull().increment();
+                throw new AdmissionRejectedException("Too many concurrent queries, try again shortly", BULKHEAD_RETRY_AFTER);
+            }
+            request.setAttribute(BULKHEAD_PERMIT, Boolean.TRUE);
+        }
+        counters.admitted().increment();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion( HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(BULKHEAD_PERMIT) != null) {
+            request.removeAttribute(BULKHEAD_PERMIT);
+            bulkhead.release();
+        }
+    }
+
+    private String client( HttpServletRequest request) {
+        String header = properties.getClientHeader();
+        if (header != null && !header.isBlank()) {
+            String client = request.getHeader(header);
+            if (client != null && !client.isBlank()) {
+                return client;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private Outcomes outcomes( String endpoint) {
+        return new Outcomes(
+                meterRegistry.counter("task.admission", "endpoint", endpoint, "outcome", "admitted"),
+                meterRegistry.counter("task.admission", "endpoint", endpoint, "outcome", "rate_limited"),
+                meterRegistry.counter("task.admission", "endpoint", endpoint, "outcome", "bulkhead_full"));
+    }
+
+    private record BucketKey( String client, String endpoint) {
+    }
+
+    private record Outcomes( Counter admitted, Counter rateLimited, Counter bulkheadFull) {
+    }
+}
@@ -0,0 +1,183 @@
+package com.anderfolg.testpr.controller.impl;
+
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.model.DTO.TaskChange;
+import com.anderfolg.testpr.model.DTO.TaskChangeBatch;
+import com.anderfolg.testpr.service.TaskChangeFeed;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Serves the task change feed to HTTP clients, either as a Server-Sent Events stream or as long-poll requests.
+ * Stream subscribers pull from the feed by their own cursor, one batch per turn, so a slow client only ever holds
+ * its own turn and never makes the feed buffer more. The turns run on a dedicated pool of `streamWorkers` threads:
+ * sends block on the client connection, and slow clients must not hold up the application task executor. A subscriber
+ * that falls out of the feed's window gets a `reset` event and is disconnected.
+ */
+@Component
+@Profile("!reactive")
+@Slf4j
+public class TaskChangeStreams {
+
+    private final TaskChangeFeed taskChangeFeed;
+    private final TaskProperties.Changes properties;
+    private final ExecutorService workers;
+    private final TaskScheduler taskScheduler;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private ScheduledFuture<?> heartbeats;
+
+    public TaskChangeStreams( TaskChangeFeed taskChangeFeed,
+                              TaskProperties taskProperties,
+                              TaskScheduler taskScheduler,
+                              MeterRegistry meterRegistry) {
+        this.taskChangeFeed = taskChangeFeed;
+        this.properties = taskProperties.getChanges();
+        this.workers = Executors.newFixedThreadPool(properties.getStreamWorkers(),
+                new CustomizableThreadFactory("task-change-streams-"));
+        this.taskScheduler = taskScheduler;
+        Gauge.builder("task.changes.subscribers", subscriptions, Set::size).register(meterRegistry);
+    }
+
+    /**
+     * Opens an event stream starting after the given sequence, or at the current end of the feed if none is given.
+     * A stream that reaches the stream timeout is completed normally, so the client sees the end of the stream and
+     * reconnects with its last event ID.
+     */
+    public SseEmitter stream( Long after) {
+        SseEmitter emitter = newEmitter(properties.getStreamTimeout().toMillis());
+        Subscription subscription = new Subscription(emitter, after != null ? after : taskChangeFeed.getLastSequence());
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(() -> {
+            subscription.close();
+            emitter.complete();
+        });
+        emitter.onError(e -> subscription.close());
+        subscriptions.add(subscription);
+        taskChangeFeed.addListener(subscription);
+        subscription.run();
+        return emitter;
+    }
+
+    SseEmitter newEmitter( long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * Answers with the changes after the given sequence as soon as there are any, or with an empty batch once
+     * the poll timeout has passed.
+     */
+    public DeferredResult<TaskChangeBatch> poll( long after) {
+        DeferredResult<TaskChangeBatch> result = new DeferredResult<>(properties.getPollTimeout().toMillis(),
+                () -> new TaskChangeBatch(List.of(), after, false));
+        Runnable listener = () -> {
+            TaskChangeBatch batch = taskChangeFeed.read(after, properties.getMaxBatchSize());
+            if (batch.reset() || !batch.changes().isEmpty()) {
+                result.setResult(batch);
+            }
+        };
+        taskChangeFeed.addListener(listener);
+        result.onCompletion(() -> taskChangeFeed.removeListener(listener));
+        listener.run();
+        return result;
+    }
+
+    /**
+     * Keeps idle streams alive through proxies that close silent connections.
+     */
+    @PostConstruct
+    void scheduleHeartbeats() {
+        heartbeats = taskScheduler.scheduleAtFixedRate(
+                () -> subscriptions.forEach(Subscription::heartbeat), properties.getHeartbeatInterval());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.cancel(false);
+        workers.shutdown();
+    }
+
+    private final class Subscription implements Runnable {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean heartbeatDue;
+        private volatile boolean closed;
+        private long cursor;
+
+        private Subscription( SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+
+        /**
+         * Schedules a drain unless one is already pending; called by the feed after every change.
+         */
+        @Override
+        public void run() {
+            if (!closed && scheduled.compareAndSet(false, true)) {
+                workers.execute(this::drain);
+            }
+        }
+
+        private void heartbeat() {
+            heartbeatDue = true;
+            run();
+        }
+
+        private void drain() {
+            try {
+                TaskChangeBatch batch = taskChangeFeed.read(cursor, properties.getMaxBatchSize());
+                if (batch.reset()) {
+                    emitter.send(SseEmitter.event().name("reset").data(batch.lastSequence()));
+                    emitter.complete();
+                    close();
+                    return;
+                }
+                for (TaskChange change : batch.changes()) {
+                    emitter.send(SseEmitter.event()
+                            .id(Long.toString(change.sequence()))
+                            .name(change.type().name())
+                            .data(change, MediaType.APPLICATION_JSON));
+                }
+                cursor = batch.lastSequence();
+                if (heartbeatDue && batch.changes().isEmpty()) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+                heartbeatDue = false;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Closing task change stream: {}", e.getMessage());
+                close();
+            } finally {
+                scheduled.set(false);
+            }
+            if (!closed && taskChangeFeed.getLastSequence() > cursor) {
+                run();
+            }
+        }
+
+        private void close() {
+            closed = true;
+            subscriptions.remove(this);
+            taskChangeFeed.removeListener(this);
+        }
+    }
+}
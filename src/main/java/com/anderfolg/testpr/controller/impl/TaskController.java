@@ -1,67 +1,226 @@
 package com.anderfolg.testpr.controller.impl;
 
 import com.anderfolg.testpr.controller.TaskControllerSpec;
+import com.anderfolg.testpr.model.DTO.TaskChangeBatch;
 import com.anderfolg.testpr.model.DTO.TaskDTO;
+import com.anderfolg.testpr.model.DTO.TaskIngestionReceipt;
+import com.anderfolg.testpr.model.DTO.TaskSearchCriteria;
+import com.anderfolg.testpr.model.DTO.TaskStats;
+import com.anderfolg.testpr.model.DTO.TaskStatusUpdateDTO;
 import com.anderfolg.testpr.model.Task;
 import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.model.enums.TaskField;
+import com.anderfolg.testpr.service.TaskIdempotencyService;
+import com.anderfolg.testpr.service.TaskIngestionService;
 import com.anderfolg.testpr.service.TaskService;
+import com.anderfolg.testpr.service.TaskStatsService;
+import com.anderfolg.testpr.service.TaskTextSearchService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/tasks")
 @RequiredArgsConstructor
 public class TaskController implements TaskControllerSpec {
 
     private final TaskService taskService;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<TaskIngestionService> taskIngestionService;
+    private final TaskChangeStreams taskChangeStreams;
+    private final TaskStatsService taskStatsService;
+    private final TaskTextSearchService taskTextSearchService;
+    private final TaskIdempotencyService taskIdempotencyService;
 
 
     @Override
     @PostMapping
-    public ResponseEntity<Task> createTask( @RequestBody TaskDTO taskDTO) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(taskService.createTask(taskDTO));
+    public ResponseEntity<?> createTask( @RequestBody TaskDTO taskDTO,
+                                         @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        if (idempotencyKey != null) {
+            // A keyed request bypasses the ingestion queue: the key can only be recorded together with the created task.
+            Task task = taskIdempotencyService.createTask(idempotencyKey, taskDTO);
+            return ResponseEntity.status(HttpStatus.CREATED).eTag(TaskETags.of(task)).body(task);
+        }
+        TaskIngestionService ingestion = taskIngestionService.getIfAvailable();
+        if (ingestion == null) {
+            Task task = taskService.createTask(taskDTO);
+            return ResponseEntity.status(HttpStatus.CREATED).eTag(TaskETags.of(task)).body(task);
+        }
+        TaskIngestionReceipt receipt = ingestion.submit(taskDTO);
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequestUri()
+                        .path("/ingest/{trackingId}")
+                        .buildAndExpand(receipt.trackingId())
+                        .toUri())
+                .body(receipt);
+    }
+
+    @Override
+    @GetMapping("/ingest/{trackingId}")
+    public ResponseEntity<TaskIngestionReceipt> getIngestionReceipt( @PathVariable UUID trackingId) {
+        TaskIngestionService ingestion = taskIngestionService.getIfAvailable();
+        if (ingestion == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Asynchronous task ingestion is disabled");
+        }
+        return ingestion.getReceipt(trackingId)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown or expired tracking id: " + trackingId));
+    }
+
+    @Override
+    @PostMapping("/batch")
+    public ResponseEntity<List<Task>> createTasks( @RequestBody List<TaskDTO> taskDTOs,
+                                                   @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        List<Task> tasks = idempotencyKey == null
+                ? taskService.createTasks(taskDTOs)
+                : taskIdempotencyService.createTasks(idempotencyKey, taskDTOs);
+        return ResponseEntity.status(HttpStatus.CREATED).body(tasks);
     }
 
     @Override
     @GetMapping("/{id}")
     public ResponseEntity<Task> getTaskById( @PathVariable Long id) {
-        return ResponseEntity.ok(taskService.getTaskById(id));
+        // With the ETag set, a matching If-None-Match is answered with 304 and no body.
+        Task task = taskService.getTaskById(id);
+        return ResponseEntity.ok().eTag(TaskETags.of(task)).body(task);
     }
 
     @Override
     @GetMapping
-    public ResponseEntity<List<Task>> getAllTasks() {
-        return ResponseEntity.ok(taskService.getAllTasks());
+    public ResponseEntity<?> getAllTasks( @RequestParam(required = false) String cursor,
+                                          @RequestParam(required = false) Integer size,
+                                          @RequestParam(required = false) String fields) {
+        if (fields == null) {
+            return ResponseEntity.ok(taskService.getAllTasks(cursor, size));
+        }
+        return ResponseEntity.ok(taskService.getTaskViews(cursor, size, TaskField.parse(fields)));
     }
 
     @Override
     @GetMapping("/filter/status")
-    public ResponseEntity<List<Task>> getTasksByStatus(@RequestParam Status status) {
-        return ResponseEntity.ok(taskService.getTasksByStatus(status));
+    public ResponseEntity<?> getTasksByStatus( @RequestParam Status status,
+                                               @RequestParam(required = false) String fields) {
+        if (fields == null) {
+            return ResponseEntity.ok(taskService.getTasksByStatus(status));
+        }
+        return ResponseEntity.ok(taskService.getTaskViewsByStatus(status, TaskField.parse(fields)));
+    }
+
+    @Override
+    @GetMapping("/search")
+    public ResponseEntity<Page<Task>> searchTasks( @RequestParam(required = false) Status status,
+                                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+                                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
+                                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+                                                   @RequestParam(required = false) String namePrefix,
+                                                   @ParameterObject Pageable pageable) {
+        TaskSearchCriteria criteria = new TaskSearchCriteria(status, dueFrom, dueTo, createdFrom, createdTo, namePrefix);
+        return ResponseEntity.ok(taskService.searchTasks(criteria, pageable));
+    }
+
+    @Override
+    @GetMapping("/search/text")
+    public ResponseEntity<Page<Task>> searchTasksByText( @RequestParam String q, @ParameterObject Pageable pageable) {
+        return ResponseEntity.ok(taskTextSearchService.search(q, pageable));
+    }
+
+    @Override
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStats> getTaskStats() {
+        return ResponseEntity.ok(taskStatsService.getStats());
+    }
+
+    @Override
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges( @RequestParam(required = false) Long after,
+                                     @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return taskChangeStreams.stream(after != null ? after : lastEventId);
+    }
+
+    @Override
+    // Requires `after`, so a request without an Accept header still maps to exactly one of the two handlers.
+    @GetMapping(value = "/changes", params = "after", produces = MediaType.APPLICATION_JSON_VALUE)
+    public DeferredResult<TaskChangeBatch> pollChanges( @RequestParam long after) {
+        return taskChangeStreams.poll(after);
     }
 
     @Override
     @PutMapping("/{id}")
-    public ResponseEntity<Task> updateTask( @PathVariable Long id, @RequestBody TaskDTO taskDTO) {
-        return ResponseEntity.ok(taskService.updateTask(id, taskDTO));
+    public ResponseEntity<Task> updateTask( @PathVariable Long id, @RequestBody TaskDTO taskDTO,
+                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Task task = taskService.updateTask(id, taskDTO, TaskETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(TaskETags.of(task)).body(task);
     }
 
     @Override
     @PatchMapping("/{id}/status")
-    public ResponseEntity<Task> updateTaskStatus( @PathVariable Long id, @RequestParam Status status) {
-        return ResponseEntity.ok(taskService.updateTaskStatus(id, status));
+    public ResponseEntity<Task> updateTaskStatus( @PathVariable Long id, @RequestParam Status status,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Task task = taskService.updateTaskStatus(id, status, TaskETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(TaskETags.of(task)).body(task);
     }
 
     @Override
-    public ResponseEntity<Task> deleteTask( Long id ) {
-        taskService.deleteTask(id);
+    @PatchMapping("/status/batch")
+    public ResponseEntity<List<Task>> updateTaskStatuses( @RequestBody List<TaskStatusUpdateDTO> updates) {
+        return ResponseEntity.ok(taskService.updateTaskStatuses(updates));
+    }
+
+    @Override
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Task> deleteTask( @PathVariable Long id,
+                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        taskService.deleteTask(id, TaskETags.expectedVersion(ifMatch));
         return ResponseEntity.ok().build();
     }
-}
 
+    @Override
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        StreamingResponseBody body = outputStream -> {
+            ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                taskService.exportTasks(task -> {
+                    try {
+                        writer.writeValue(generator, task);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+}
@@ -0,0 +1,44 @@
+package com.anderfolg.testpr.controller.impl;
+
+import com.anderfolg.testpr.model.Task;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * ETags of tasks, shared by the Spring MVC and the WebFlux controllers so both accept the tags the other issues.
+ */
+final class TaskETags {
+
+    private TaskETags() {
+    }
+
+    /**
+     * The ETag of a task is weak: it names the task version, and the same version is served as JSON or CBOR,
+     * compressed or not, so the representations are equivalent but not byte-identical.
+     */
+    static String of( Task task) {
+        return "W/\"" + task.getVersion() + "\"";
+    }
+
+    /**
+     * Reads the expected task version from an If-Match header. An absent header or `*` means the write is unconditional.
+     * The header must be a single ETag issued by this API; as that tag names a version, its `W/` prefix is optional.
+     */
+    static Long expectedVersion( String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.valueOf(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // falls through to the precondition failure below
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "If-Match must be a single ETag returned for this task");
+    }
+}
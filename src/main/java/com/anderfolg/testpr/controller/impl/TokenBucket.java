@@ -0,0 +1,48 @@
+package com.anderfolg.testpr.controller.impl;
+
+import com.anderfolg.testpr.config.TaskProperties;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket. Instead of a token count and a refill timestamp, the whole state is the time at which
+ * the bucket will be full again (the generic cell rate algorithm), so taking a token is a single compare-and-set.
+ */
+final class TokenBucket {
+
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket( TaskProperties.Admission.Limit limit, long nowNanos) {
+        this.nanosPerToken = (long) (1_000_000_000L / limit.getRefillPerSecond());
+        this.burstNanos = nanosPerToken * limit.getCapacity();
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @param nowNanos The current {@link System#nanoTime()}.
+     * @return 0 if a token was taken, otherwise the nanoseconds until one will be available.
+     */
+    long tryAcquire( long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + nanosPerToken;
+            long wait = next - nowNanos - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    static void validate( String endpoint, TaskProperties.Admission.Limit limit) {
+        if (limit.getCapacity() < 1 || limit.getRefillPerSecond() <= 0) {
+            throw new IllegalStateException("Admission limit of " + endpoint + " needs a positive capacity and refill rate");
+        }
+    }
+}
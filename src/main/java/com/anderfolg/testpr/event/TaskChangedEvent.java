@@ -0,0 +1,28 @@
+package com.anderfolg.testpr.event;
+
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.model.enums.TaskChangeType;
+
+/**
+ * Published by the task service for every task it creates, updates or deletes.
+ * `task` is the state after the change (null for deletions) and `previous` the state before it (null for creations).
+ * Listeners that only care about committed data should use `@TransactionalEventListener`.
+ */
+public record TaskChangedEvent(
+        TaskChangeType type,
+        Long taskId,
+        Task task,
+        Task previous) {
+
+    public static TaskChangedEvent created( Task task) {
+        return new TaskChangedEvent(TaskChangeType.CREATED, task.getId(), task, null);
+    }
+
+    public static TaskChangedEvent of( TaskChangeType type, Task task, Task previous) {
+        return new TaskChangedEvent(type, task.getId(), task, previous);
+    }
+
+    public static TaskChangedEvent deleted( Task previous) {
+        return new TaskChangedEvent(TaskChangeType.DELETED, previous.getId(), null, previous);
+    }
+}
@@ -0,0 +1,20 @@
+package com.anderfolg.testpr.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a request is shed by admission control, because the client is over its rate limit or too many
+ * expensive queries are running. Mapped to 429 with a `Retry-After` header by {@link ExceptionControllerAdvice}.
+ */
+@Getter
+public class AdmissionRejectedException extends TaskApiException {
+
+    private final Duration retryAfter;
+
+    public AdmissionRejectedException( String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -1,26 +1,110 @@
 package com.anderfolg.testpr.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.server.ResponseStatusException;
 
+/**
+ * Maps exceptions to responses. Expected failures of a request (validation, missing tasks, preconditions, shed load)
+ * are logged at DEBUG only: they are visible in the `http.server.requests` metric by status, and logging each one would
+ * turn a flood of bad requests into a flood of log I/O. Only unexpected exceptions are logged at ERROR, with their
+ * stack trace, and their message is not returned to the client.
+ */
 @ControllerAdvice
 @Slf4j
 public class ExceptionControllerAdvice {
 
     @ExceptionHandler(ResponseStatusException.class)
     public ResponseEntity<String> handleException( ResponseStatusException e) {
-        log.error("Error processing request: {}", e.getMessage());
+        if (e.getStatusCode().is5xxServerError()) {
+            log.warn("Error processing request: {}", e.getMessage());
+        } else {
+            log.debug("Rejected request: {}", e.getMessage());
+        }
         return ResponseEntity.status(e.getStatusCode()).body(e.getMessage());
     }
 
+    @ExceptionHandler(TaskNotFoundException.class)
+    public ResponseEntity<String> handleException( TaskNotFoundException e) {
+        log.debug("Task not found: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
+
+    @ExceptionHandler(TaskVersionMismatchException.class)
+    public ResponseEntity<String> handleException( TaskVersionMismatchException e) {
+        log.debug("Precondition failed: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(e.getMessage());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleException( OptimisticLockingFailureException e) {
+        log.warn("Concurrent modification: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("Task was modified concurrently; reload it and retry");
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<String> handleException( IdempotencyKeyReusedException e) {
+        log.debug("Idempotency key reused: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(e.getMessage());
+    }
+
+    @ExceptionHandler(IngestionRejectedException.class)
+    public ResponseEntity<String> handleException( IngestionRejectedException e) {
+        log.debug("Task ingestion rejected: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
+
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<String> handleException( AdmissionRejectedException e) {
+        log.debug("Request shed: {}", e.getMessage());
+        long retryAfterSeconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(e.getMessage());
+    }
+
+    @ExceptionHandler(TaskValidationException.class)
+    public ResponseEntity<String> handleException( TaskValidationException e) {
+        log.debug("Invalid request: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(TypeMismatchException.class)
+    public ResponseEntity<String> handleException( TypeMismatchException e) {
+        log.debug("Invalid request parameter: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid value for " + e.getPropertyName());
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<String> handleException( HttpMessageNotReadableException e) {
+        log.debug("Unreadable request body: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Malformed request body");
+    }
+
+    /**
+     * Spring MVC's own client errors (missing parameters, unsupported media types, unknown paths, ...) carry their
+     * status as an {@link ErrorResponse}; they are answered with it and logged at DEBUG like the other expected failures.
+     */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleException(Exception e) {
-        log.error("An unexpected error occurred: {}", e.getMessage());
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        if (e instanceof ErrorResponse errorResponse) {
+            log.debug("Rejected request: {}", e.getMessage());
+            return ResponseEntity.status(errorResponse.getStatusCode())
+                    .headers(errorResponse.getHeaders())
+                    .body(errorResponse.getBody().getDetail());
+        }
+        log.error("An unexpected error occurred", e);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An unexpected error occurred");
     }
 
 }
\ No newline at end of file
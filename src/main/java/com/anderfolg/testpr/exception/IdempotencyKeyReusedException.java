@@ -0,0 +1,12 @@
+package com.anderfolg.testpr.exception;
+
+/**
+ * Thrown when an `Idempotency-Key` is sent again with a different request body.
+ * Mapped to 422 by {@link ExceptionControllerAdvice}.
+ */
+public class IdempotencyKeyReusedException extends TaskApiException {
+
+    public IdempotencyKeyReusedException( String key) {
+        super("Idempotency key " + key + " was already used with a different request");
+    }
+}
@@ -0,0 +1,12 @@
+package com.anderfolg.testpr.exception;
+
+/**
+ * Thrown when the asynchronous ingestion queue cannot accept a task, because it is full or shutting down.
+ * Mapped to 503 with a `Retry-After` header by {@link ExceptionControllerAdvice}.
+ */
+public class IngestionRejectedException extends TaskApiException {
+
+    public IngestionRejectedException( String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.anderfolg.testpr.exception;
+
+/**
+ * Base of the expected failures of the task API, each mapped to a 4xx or 503 response by {@link ExceptionControllerAdvice}.
+ * They describe a request, not a bug, so no stack trace is captured: creating one costs about as much as any other object,
+ * however deep the call stack is when it is thrown.
+ */
+public abstract class TaskApiException extends RuntimeException {
+
+    protected TaskApiException( String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,11 @@
+package com.anderfolg.testpr.exception;
+
+/**
+ * Thrown when a task with the requested ID does not exist. Mapped to 404 by {@link ExceptionControllerAdvice}.
+ */
+public class TaskNotFoundException extends TaskApiException {
+
+    public TaskNotFoundException( Long id) {
+        super("Task not found with id: " + id);
+    }
+}
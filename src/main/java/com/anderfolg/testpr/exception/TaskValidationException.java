@@ -0,0 +1,18 @@
+package com.anderfolg.testpr.exception;
+
+/**
+ * Thrown when a request carries an invalid value, e.g. a blank task name or a malformed cursor. Mapped to 400 by
+ * {@link ExceptionControllerAdvice}; any other `IllegalArgumentException` is a bug and answered with 500. It stays an
+ * `IllegalArgumentException` for callers that catch those, and like {@link TaskApiException} it captures no stack trace.
+ */
+public class TaskValidationException extends IllegalArgumentException {
+
+    public TaskValidationException( String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,12 @@
+package com.anderfolg.testpr.exception;
+
+/**
+ * Thrown when a write is conditional on a task version that is no longer current.
+ * Mapped to 412 by {@link ExceptionControllerAdvice}.
+ */
+public class TaskVersionMismatchException extends TaskApiException {
+
+    public TaskVersionMismatchException( Long id, Long expectedVersion) {
+        super("Task " + id + " is no longer at version " + expectedVersion);
+    }
+}
@@ -0,0 +1,54 @@
+package com.anderfolg.testpr.model;
+
+import com.anderfolg.testpr.model.enums.Status;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A completed task moved out of the `task` table by the archiver. Archived tasks are read-only and keep the ID,
+ * fields and version they had when they were archived.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "task_archive", indexes = {
+        @Index(name = "idx_task_archive_archived_at", columnList = "archived_at")
+})
+public class ArchivedTask {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private Long id;
+    @Column(name = "task_name")
+    private String taskName;
+    @Column(name = "description")
+    private String description;
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Status status;
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    @Column(name = "due_date")
+    private LocalDateTime dueDate;
+    @Column(name = "version", nullable = false)
+    private Long version;
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    public Task toTask() {
+        return new Task(id, taskName, description, status, createdAt, dueDate, version);
+    }
+}
@@ -0,0 +1,17 @@
+package com.anderfolg.testpr.model.DTO;
+
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.model.enums.TaskChangeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * One committed task mutation in the change feed. `task` holds the state after the change and is null for deletions.
+ */
+public record TaskChange(
+        long sequence,
+        TaskChangeType type,
+        Long taskId,
+        Task task,
+        LocalDateTime occurredAt) {
+}
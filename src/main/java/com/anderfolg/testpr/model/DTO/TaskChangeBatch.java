@@ -0,0 +1,14 @@
+package com.anderfolg.testpr.model.DTO;
+
+import java.util.List;
+
+/**
+ * Changes read from the feed after a given sequence. When `reset` is true the requested sequence is no longer
+ * (or not yet) in the feed, `changes` is empty, and the client has to reload its state before resuming from
+ * `lastSequence`.
+ */
+public record TaskChangeBatch(
+        List<TaskChange> changes,
+        long lastSequence,
+        boolean reset) {
+}
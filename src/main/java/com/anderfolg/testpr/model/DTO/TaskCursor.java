@@ -0,0 +1,48 @@
+package com.anderfolg.testpr.model.DTO;
+
+import com.anderfolg.testpr.exception.TaskValidationException;
+import com.anderfolg.testpr.model.Task;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position in the `(createdAt, id)` ordering of tasks.
+ * Clients receive it URL-safe Base64 encoded and pass it back unchanged to fetch the next page.
+ */
+public record TaskCursor(
+        LocalDateTime createdAt,
+        Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TaskCursor of(Task task) {
+        return new TaskCursor(task.getCreatedAt(), task.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @param token The encoded cursor.
+     * @return The decoded cursor.
+     * @throws IllegalArgumentException if the token is not a valid cursor.
+     */
+    public static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new TaskCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new TaskValidationException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.anderfolg.testpr.model.DTO;
+
+import com.anderfolg.testpr.model.enums.IngestionState;
+
+import java.util.UUID;
+
+public record TaskIngestionReceipt(
+        UUID trackingId,
+        IngestionState state,
+        Long taskId) {
+}
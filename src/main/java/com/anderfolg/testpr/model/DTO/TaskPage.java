@@ -0,0 +1,10 @@
+package com.anderfolg.testpr.model.DTO;
+
+import com.anderfolg.testpr.model.Task;
+
+import java.util.List;
+
+public record TaskPage(
+        List<Task> tasks,
+        String nextCursor) {
+}
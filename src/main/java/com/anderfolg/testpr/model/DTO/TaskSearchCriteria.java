@@ -0,0 +1,14 @@
+package com.anderfolg.testpr.model.DTO;
+
+import com.anderfolg.testpr.model.enums.Status;
+
+import java.time.LocalDateTime;
+
+public record TaskSearchCriteria(
+        Status status,
+        LocalDateTime dueFrom,
+        LocalDateTime dueTo,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        String namePrefix) {
+}
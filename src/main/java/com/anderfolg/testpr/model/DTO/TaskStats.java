@@ -0,0 +1,12 @@
+package com.anderfolg.testpr.model.DTO;
+
+import com.anderfolg.testpr.model.enums.Status;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record TaskStats(
+        Map<Status, Long> countsByStatus,
+        long overdue,
+        LocalDateTime reconciledAt) {
+}
@@ -0,0 +1,8 @@
+package com.anderfolg.testpr.model.DTO;
+
+import com.anderfolg.testpr.model.enums.Status;
+
+public record TaskStatusUpdateDTO(
+        Long id,
+        Status status) {
+}
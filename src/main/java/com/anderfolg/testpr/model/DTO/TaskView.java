@@ -0,0 +1,37 @@
+package com.anderfolg.testpr.model.DTO;
+
+import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.model.enums.TaskField;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Sparse, read-only view of a task holding only the requested fields. Fields that were not requested are null
+ * and left out of the JSON, as is a requested field without a value (e.g. a task without due date).
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskView(
+        Long id,
+        String taskName,
+        String description,
+        Status status,
+        LocalDateTime createdAt,
+        LocalDateTime dueDate,
+        Long version) {
+
+    /**
+     * Returns a copy that keeps only the given fields.
+     */
+    public TaskView only( Set<TaskField> fields) {
+        return new TaskView(
+                fields.contains(TaskField.ID) ? id : null,
+                fields.contains(TaskField.TASK_NAME) ? taskName : null,
+                fields.contains(TaskField.DESCRIPTION) ? description : null,
+                fields.contains(TaskField.STATUS) ? status : null,
+                fields.contains(TaskField.CREATED_AT) ? createdAt : null,
+                fields.contains(TaskField.DUE_DATE) ? dueDate : null,
+                fields.contains(TaskField.VERSION) ? version : null);
+    }
+}
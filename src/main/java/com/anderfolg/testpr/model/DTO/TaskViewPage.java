@@ -0,0 +1,8 @@
+package com.anderfolg.testpr.model.DTO;
+
+import java.util.List;
+
+public record TaskViewPage(
+        List<TaskView> tasks,
+        String nextCursor) {
+}
@@ -0,0 +1,33 @@
+package com.anderfolg.testpr.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of the overdue-task engine, one row per action: every pending task due before `processedBefore`
+ * has been handed to that action by a pass that completed at `completedAt`.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "task_due_date_checkpoint")
+public class DueDateCheckpoint {
+
+    @Id
+    @Column(name = "action", nullable = false)
+    private String action;
+    @Column(name = "processed_before", nullable = false)
+    private LocalDateTime processedBefore;
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
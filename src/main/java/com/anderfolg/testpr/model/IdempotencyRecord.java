@@ -0,0 +1,54 @@
+package com.anderfolg.testpr.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of a task creation made with an `Idempotency-Key`. The key is the primary key, so two instances racing
+ * on the same key cannot both commit their tasks. `requestHash` identifies the request body the key was first used with,
+ * and `response` holds the created tasks as JSON, returned as they were to every retry.
+ * Records are only ever inserted, so saving one always persists it and never merges into an existing row.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "task_idempotency_key", indexes = {
+        @Index(name = "idx_task_idempotency_key_created_at", columnList = "created_at")
+})
+public class IdempotencyRecord implements Persistable<String> {
+
+    @Id
+    @Column(name = "idempotency_key", nullable = false)
+    private String key;
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+    @Column(name = "response", nullable = false, columnDefinition = "text")
+    private String response;
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Override
+    @Transient
+    public String getId() {
+        return key;
+    }
+
+    @Override
+    @Transient
+    public boolean isNew() {
+        return true;
+    }
+}
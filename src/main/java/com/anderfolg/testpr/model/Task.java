@@ -8,7 +8,10 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,15 +23,23 @@ import java.time.LocalDateTime;
 
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "task")
+@Table(name = "task", indexes = {
+        @Index(name = "idx_task_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_task_status_due_date", columnList = "status, due_date"),
+        @Index(name = "idx_task_status_created_at", columnList = "status, created_at"),
+        @Index(name = "idx_task_due_date", columnList = "due_date")
+        // idx_task_task_name uses varchar_pattern_ops, which @Index cannot express; see the V3 migration.
+})
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @org.springframework.data.annotation.Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 100)
     @Column(name = "id", nullable = false)
     private Long id;
     @Column(name = "task_name")
@@ -42,4 +53,8 @@ public class Task {
     private LocalDateTime createdAt;
     @Column(name = "due_date")
     private LocalDateTime dueDate;
+    @Version
+    @org.springframework.data.annotation.Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
@@ -0,0 +1,7 @@
+package com.anderfolg.testpr.model.enums;
+
+public enum IngestionState {
+    QUEUED,
+    CREATED,
+    FAILED
+}
@@ -0,0 +1,6 @@
+package com.anderfolg.testpr.model.enums;
+
+public enum OverdueAction {
+    MARK,
+    NOTIFY
+}
@@ -2,5 +2,6 @@ package com.anderfolg.testpr.model.enums;
 
 public enum Status {
     PENDING,
+    OVERDUE,
     DONE
 }
@@ -0,0 +1,60 @@
+package com.anderfolg.testpr.model.enums;
+
+import com.anderfolg.testpr.exception.TaskValidationException;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Task attributes that can be requested through the `fields` parameter of the list endpoints.
+ */
+public enum TaskField {
+    ID("id"),
+    TASK_NAME("taskName"),
+    DESCRIPTION("description"),
+    STATUS("status"),
+    CREATED_AT("createdAt"),
+    DUE_DATE("dueDate"),
+    VERSION("version");
+
+    private final String attribute;
+
+    TaskField( String attribute) {
+        this.attribute = attribute;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * Parses a comma-separated list of attribute names, e.g. `id,taskName,status`.
+     *
+     * @param fields The requested attribute names.
+     * @return The requested fields.
+     * @throws IllegalArgumentException if the list is empty or names an unknown attribute.
+     */
+    public static Set<TaskField> parse( String fields) {
+        Set<TaskField> parsed = EnumSet.noneOf(TaskField.class);
+        for (String name : fields.split(",")) {
+            String attribute = name.trim();
+            if (attribute.isEmpty()) {
+                continue;
+            }
+            parsed.add(fromAttribute(attribute));
+        }
+        if (parsed.isEmpty()) {
+            throw new TaskValidationException("At least one task field must be requested");
+        }
+        return parsed;
+    }
+
+    private static TaskField fromAttribute( String attribute) {
+        for (TaskField field : values()) {
+            if (field.attribute.equals(attribute)) {
+                return field;
+            }
+        }
+        throw new TaskValidationException("Unknown task field: " + attribute);
+    }
+}
@@ -0,0 +1,6 @@
+package com.anderfolg.testpr.model.enums;
+
+public enum TextSearchEngine {
+    POSTGRES,
+    IN_MEMORY
+}
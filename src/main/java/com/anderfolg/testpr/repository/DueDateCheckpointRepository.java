@@ -0,0 +1,9 @@
+package com.anderfolg.testpr.repository;
+
+import com.anderfolg.testpr.model.DueDateCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DueDateCheckpointRepository extends JpaRepository<DueDateCheckpoint, String> {
+}
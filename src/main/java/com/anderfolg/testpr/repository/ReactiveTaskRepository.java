@@ -0,0 +1,49 @@
+package com.anderfolg.testpr.repository;
+
+import com.anderfolg.testpr.model.Task;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC access to the same `task` table that {@link TaskRepository} maps with JPA.
+ */
+@Repository
+public interface ReactiveTaskRepository extends R2dbcRepository<Task, Long> {
+    Flux<Task> findAllByStatus( String status);
+
+    /**
+     * Inserts a task and returns the stored row. The ID is drawn from `task_seq`; with Hibernate's pooled optimizer
+     * each sequence value stands for a whole block of IDs, so a value taken here is never handed out through JPA.
+     */
+    @Query("INSERT INTO task (id, task_name, description, status, created_at, due_date, version) "
+            + "VALUES (nextval('task_seq'), :taskName, :description, :status, :createdAt, :dueDate, 0) RETURNING *")
+    Mono<Task> insert( @Param("taskName") String taskName, @Param("description") String description, @Param("status") String status,
+                       @Param("createdAt") LocalDateTime createdAt, @Param("dueDate") LocalDateTime dueDate);
+
+    /**
+     * Sets the status of a task, bumps its version and returns the row as it was before the update,
+     * like {@link TaskRepository#updateStatusByIdReturningPrevious}. With a non-null `version` only that version
+     * of the task is updated.
+     */
+    @Query("""
+            UPDATE task t SET status = :status, version = previous.version + 1
+            FROM (SELECT * FROM task WHERE id = :id FOR UPDATE) previous
+            WHERE t.id = previous.id AND (CAST(:version AS bigint) IS NULL OR previous.version = :version)
+            RETURNING previous.*""")
+    Mono<Task> updateStatusByIdReturningPrevious( @Param("id") Long id, @Param("status") String status, @Param("version") Long version);
+
+    /**
+     * Deletes a task and returns the deleted row. With a non-null `version` only that version of the task is deleted.
+     */
+    @Query("""
+            DELETE FROM task
+            WHERE id = :id AND (CAST(:version AS bigint) IS NULL OR version = :version)
+            RETURNING *""")
+    Mono<Task> deleteTaskById( @Param("id") Long id, @Param("version") Long version);
+}
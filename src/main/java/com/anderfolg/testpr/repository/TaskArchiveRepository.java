@@ -0,0 +1,38 @@
+package com.anderfolg.testpr.repository;
+
+import com.anderfolg.testpr.model.ArchivedTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskArchiveRepository extends JpaRepository<ArchivedTask, Long> {
+
+    @Query("select a.status, count(a) from ArchivedTask a group by a.status")
+    List<Object[]> countByStatus();
+
+    /**
+     * Moves up to `limit` tasks with the given status created before `before` from `task` to `task_archive`, oldest first,
+     * in a single DELETE ... RETURNING statement feeding the INSERT. Rows locked by a concurrent write are skipped.
+     *
+     * @return The number of archived tasks.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            WITH moved AS (
+                DELETE FROM task WHERE (id, created_at) IN (
+                    SELECT id, created_at FROM task
+                    WHERE status = :status AND created_at < :before
+                    ORDER BY created_at, id LIMIT :limit FOR UPDATE SKIP LOCKED)
+                RETURNING id, task_name, description, status, created_at, due_date, version)
+            INSERT INTO task_archive (id, task_name, description, status, created_at, due_date, version, archived_at)
+            SELECT id, task_name, description, status, created_at, due_date, version, now() FROM moved""", nativeQuery = true)
+    int archiveChunk( @Param("status") String status, @Param("before") LocalDateTime before, @Param("limit") int limit);
+}
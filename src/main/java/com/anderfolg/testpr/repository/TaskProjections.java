@@ -0,0 +1,20 @@
+package com.anderfolg.testpr.repository;
+
+import com.anderfolg.testpr.model.DTO.TaskCursor;
+import com.anderfolg.testpr.model.DTO.TaskView;
+import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.model.enums.TaskField;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sparse-fieldset queries mixed into {@link TaskRepository}. Only the columns of the requested fields are selected,
+ * and the rows are read as scalar tuples, so no entity is instantiated or tracked by the persistence context.
+ */
+public interface TaskProjections {
+
+    List<TaskView> findViewPage( Set<TaskField> fields, TaskCursor after, int limit);
+
+    List<TaskView> findViewsByStatus( Set<TaskField> fields, Status status);
+}
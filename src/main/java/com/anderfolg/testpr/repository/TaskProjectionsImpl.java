@@ -0,0 +1,75 @@
+package com.anderfolg.testpr.repository;
+
+import com.anderfolg.testpr.model.DTO.TaskCursor;
+import com.anderfolg.testpr.model.DTO.TaskView;
+import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.model.enums.TaskField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the select list from the requested fields. Attribute names come from {@link TaskField}, never from the request,
+ * so the generated JPQL cannot be injected into.
+ */
+public class TaskProjectionsImpl implements TaskProjections {
+
+    private static final int FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Reads up to `limit` views in `(createdAt, id)` order, after the given cursor (or from the beginning if it is null).
+     */
+    @Override
+    public List<TaskView> findViewPage( Set<TaskField> fields, TaskCursor after, int limit) {
+        String where = after == null ? "" : " where (t.createdAt, t.id) > (:createdAt, :id)";
+        TypedQuery<Tuple> query = entityManager.createQuery(
+                        select(fields) + where + " order by t.createdAt asc, t.id asc", Tuple.class)
+                .setMaxResults(limit);
+        if (after != null) {
+            query.setParameter("createdAt", after.createdAt()).setParameter("id", after.id());
+        }
+        return toViews(query, fields);
+    }
+
+    @Override
+    public List<TaskView> findViewsByStatus( Set<TaskField> fields, Status status) {
+        TypedQuery<Tuple> query = entityManager.createQuery(select(fields) + " where t.status = :status", Tuple.class)
+                .setParameter("status", status);
+        return toViews(query, fields);
+    }
+
+    private static String select( Set<TaskField> fields) {
+        return fields.stream()
+                .map(field -> "t." + field.getAttribute() + " as " + field.getAttribute())
+                .collect(Collectors.joining(", ", "select ", " from Task t"));
+    }
+
+    private static List<TaskView> toViews( TypedQuery<Tuple> query, Set<TaskField> fields) {
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .getResultList()
+                .stream()
+                .map(tuple -> new TaskView(
+                        get(tuple, fields, TaskField.ID, Long.class),
+                        get(tuple, fields, TaskField.TASK_NAME, String.class),
+                        get(tuple, fields, TaskField.DESCRIPTION, String.class),
+                        get(tuple, fields, TaskField.STATUS, Status.class),
+                        get(tuple, fields, TaskField.CREATED_AT, LocalDateTime.class),
+                        get(tuple, fields, TaskField.DUE_DATE, LocalDateTime.class),
+                        get(tuple, fields, TaskField.VERSION, Long.class)))
+                .toList();
+    }
+
+    private static <T> T get( Tuple tuple, Set<TaskField> fields, TaskField field, Class<T> type) {
+        return fields.contains(field) ? tuple.get(field.getAttribute(), type) : null;
+    }
+}
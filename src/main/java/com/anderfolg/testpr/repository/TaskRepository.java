@@ -2,13 +2,122 @@ package com.anderfolg.testpr.repository;
 
 import com.anderfolg.testpr.model.Task;
 import com.anderfolg.testpr.model.enums.Status;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskProjections {
     List<Task> findAllByStatus( Status status);
 
+    @Query("select t from Task t order by t.createdAt asc, t.id asc")
+    List<Task> findFirstPage( Pageable pageable);
+
+    @Query("select t from Task t where (t.createdAt, t.id) > (:createdAt, :id) order by t.createdAt asc, t.id asc")
+    List<Task> findPageAfter( @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")})
+    @Query("select t from Task t")
+    Stream<Task> streamAll();
+
+    /**
+     * Sets the status of a task, bumps its version and returns the row as it was before the update,
+     * in a single UPDATE ... RETURNING statement. The previous row is locked first, so the returned status is the one
+     * actually replaced. With a non-null `version` only that version of the task is updated.
+     * Runs as a query rather than a modifying statement so the returned row can be mapped to the entity.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE task t SET status = :status, version = previous.version + 1
+            FROM (SELECT * FROM task WHERE id = :id FOR UPDATE) previous
+            WHERE t.id = previous.id AND (CAST(:version AS bigint) IS NULL OR previous.version = :version)
+            RETURNING previous.*""", nativeQuery = true)
+    Optional<Task> updateStatusByIdReturningPrevious( @Param("id") Long id, @Param("status") String status, @Param("version") Long version);
+
+    /**
+     * Deletes a task and returns the deleted row in a single DELETE ... RETURNING statement.
+     * With a non-null `version` only that version of the task is deleted.
+     */
+    @Transactional
+    @Query(value = """
+            DELETE FROM task
+            WHERE id = :id AND (CAST(:version AS bigint) IS NULL OR version = :version)
+            RETURNING *""", nativeQuery = true)
+    Optional<Task> deleteTaskById( @Param("id") Long id, @Param("version") Long version);
+
+    @Query("select min(t.id), max(t.id) from Task t where t.status = :status and t.dueDate >= :from and t.dueDate < :before")
+    List<Object[]> findIdRangeByStatusAndDueDateBetween( @Param("status") Status status, @Param("from") LocalDateTime from,
+                                                         @Param("before") LocalDateTime before);
+
+    /**
+     * Reads the next chunk of tasks with the given status and due date in `[from, before)`, keyset-paginated by ID
+     * within the ID range `(afterId, lastId]`.
+     */
+    @Query("select t from Task t where t.status = :status and t.dueDate >= :from and t.dueDate < :before "
+            + "and t.id > :afterId and t.id <= :lastId order by t.id asc")
+    List<Task> findDueChunk( @Param("status") Status status, @Param("from") LocalDateTime from, @Param("before") LocalDateTime before,
+                             @Param("afterId") Long afterId, @Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * Sets a new status on the next chunk of tasks with the given status and due date in `[from, before)`, keyset-paginated by ID
+     * within the ID range `(afterId, lastId]`, and returns the rows as they were before the update. Runs as a single statement
+     * in its own short transaction; rows locked by a concurrent write are skipped rather than waited for.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE task t SET status = :newStatus, version = previous.version + 1
+            FROM (SELECT * FROM task
+                  WHERE status = :status AND due_date >= :from AND due_date < :before AND id > :afterId AND id <= :lastId
+                  ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED) previous
+            WHERE t.id = previous.id
+            RETURNING previous.*""", nativeQuery = true)
+    List<Task> updateDueChunkStatusReturningPrevious( @Param("status") String status, @Param("newStatus") String newStatus,
+                                                      @Param("from") LocalDateTime from, @Param("before") LocalDateTime before,
+                                                      @Param("afterId") Long afterId, @Param("lastId") Long lastId,
+                                                      @Param("limit") int limit);
+
+    /**
+     * Ranks the tasks whose `search_vector` matches the query, in web-search syntax (words, "phrases", or, -exclusions).
+     * The column and its GIN index are created by the `V1` schema migration. The pageable must be unsorted.
+     */
+    @Query(value = """
+            SELECT t.* FROM task t, websearch_to_tsquery('english', :query) q
+            WHERE t.search_vector @@ q
+            ORDER BY ts_rank(t.search_vector, q) DESC, t.id ASC""",
+            countQuery = "SELECT count(*) FROM task WHERE search_vector @@ websearch_to_tsquery('english', :query)",
+            nativeQuery = true)
+    Page<Task> searchByText( @Param("query") String query, Pageable pageable);
+
+    @Query("select t.status, count(t) from Task t group by t.status")
+    List<Object[]> countByStatus();
+
+    long countByStatusAndDueDateBefore( Status status, LocalDateTime dueDate);
+
+    /**
+     * Counts the tasks with the given status per minute of their due date, for due dates from `from` on.
+     * Grouping by the truncated minute keeps the result at one row per minute however many distinct timestamps there are.
+     */
+    @Query(value = """
+            SELECT date_trunc('minute', due_date), count(*) FROM task
+            WHERE status = :status AND due_date >= :from
+            GROUP BY 1""", nativeQuery = true)
+    List<Object[]> countByStatusAndDueMinuteFrom( @Param("status") String status, @Param("from") LocalDateTime from);
+
 }
@@ -0,0 +1,70 @@
+package com.anderfolg.testpr.repository;
+
+import com.anderfolg.testpr.model.DTO.TaskSearchCriteria;
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.model.enums.Status;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Composable query predicates over {@link Task}. Each factory returns null for a missing criterion,
+ * which {@link Specification} treats as "no restriction", so only the supplied filters reach the SQL.
+ */
+public final class TaskSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> matching( TaskSearchCriteria criteria) {
+        return Specification.where(hasStatus(criteria.status()))
+                .and(dueBetween(criteria.dueFrom(), criteria.dueTo()))
+                .and(createdBetween(criteria.createdFrom(), criteria.createdTo()))
+                .and(nameStartsWith(criteria.namePrefix()));
+    }
+
+    public static Specification<Task> hasStatus( Status status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> dueBetween( LocalDateTime from, LocalDateTime to) {
+        return between("dueDate", from, to);
+    }
+
+    public static Specification<Task> createdBetween( LocalDateTime from, LocalDateTime to) {
+        return between("createdAt", from, to);
+    }
+
+    /**
+     * Matches task names starting with the given prefix (case-sensitive). LIKE wildcards in the prefix are escaped,
+     * so the predicate stays an anchored prefix match. It is served by the `varchar_pattern_ops` index on `task_name`;
+     * a plain B-tree index would only serve it under the C collation.
+     */
+    public static Specification<Task> nameStartsWith( String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return null;
+        }
+        String pattern = prefix
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(root.get("taskName"), pattern, LIKE_ESCAPE);
+    }
+
+    private static Specification<Task> between( String attribute, LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (from == null) {
+                return cb.lessThan(root.get(attribute), to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(root.get(attribute), from);
+            }
+            return cb.and(cb.greaterThanOrEqualTo(root.get(attribute), from), cb.lessThan(root.get(attribute), to));
+        };
+    }
+}
@@ -0,0 +1,153 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.event.TaskChangedEvent;
+import com.anderfolg.testpr.model.Task;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Full-text search over an inverted index kept in memory, selected with `tasks.text-search.engine=in-memory`
+ * for tests and databases without text search. The index is loaded once the application is ready and then kept
+ * current from committed `TaskChangedEvent`s, so changes made outside the task service are not seen.
+ * Terms are lower-cased words without stemming. A task matches when it contains every query term, and matches are
+ * ranked by TF-IDF with name terms weighted above description terms, like the PostgreSQL engine.
+ */
+@Service
+@ConditionalOnProperty(prefix = "tasks.text-search", name = "engine", havingValue = "in-memory")
+@Slf4j
+public class InMemoryTaskTextSearchService implements TaskTextSearchService {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final float NAME_WEIGHT = 2.5f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+
+    private final TaskService taskService;
+    private final TaskProperties taskProperties;
+
+    private final Map<Long, Task> tasks = new HashMap<>();
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+
+    public InMemoryTaskTextSearchService( TaskService taskService, TaskProperties taskProperties) {
+        this.taskService = taskService;
+        this.taskProperties = taskProperties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        taskService.exportTasks(this::index);
+        log.info("Indexed {} tasks for text search", size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskChanged( TaskChangedEvent event) {
+        if (event.task() != null) {
+            index(event.task());
+        } else {
+            remove(event.taskId());
+        }
+    }
+
+    /**
+     * Searches task names and descriptions for all the words of the query, best matches first.
+     *
+     * @param query    The words to search for.
+     * @param pageable The requested page and size. Any sort is ignored, results are ordered by rank.
+     * @return The requested page of matching Task entities.
+     * @throws IllegalArgumentException if the query is blank.
+     */
+    @Override
+    public synchronized Page<Task> search( String query, Pageable pageable) {
+        log.debug("Searching tasks by text: {}", query);
+        PageRequest pageRequest = PostgresTaskTextSearchService.pageRequest(query, pageable, taskProperties);
+        List<String> terms = List.copyOf(terms(query, 1f).keySet());
+        if (terms.isEmpty()) {
+            return Page.empty(pageRequest);
+        }
+
+        Map<Long, Float> scores = null;
+        for (String term : terms) {
+            Map<Long, Float> termPostings = postings.getOrDefault(term, Map.of());
+            float idf = (float) Math.log(1 + (double) tasks.size() / Math.max(1, termPostings.size()));
+            Map<Long, Float> matched = new HashMap<>();
+            for (Map.Entry<Long, Float> posting : termPostings.entrySet()) {
+                if (scores == null || scores.containsKey(posting.getKey())) {
+                    float previous = scores == null ? 0 : scores.get(posting.getKey());
+                    matched.put(posting.getKey(), previous + posting.getValue() * idf);
+                }
+            }
+            scores = matched;
+        }
+
+        List<Map.Entry<Long, Float>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Long, Float>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+        int from = (int) Math.min(pageRequest.getOffset(), ranked.size());
+        int to = Math.min(from + pageRequest.getPageSize(), ranked.size());
+        List<Task> page = ranked.subList(from, to).stream()
+                .map(entry -> tasks.get(entry.getKey()))
+                .toList();
+        return new PageImpl<>(page, pageRequest, ranked.size());
+    }
+
+    synchronized int size() {
+        return tasks.size();
+    }
+
+    private synchronized void index( Task task) {
+        remove(task.getId());
+        tasks.put(task.getId(), task);
+        weights(task).forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(task.getId(), weight));
+    }
+
+    private void remove( Long id) {
+        Task previous = tasks.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String term : weights(previous).keySet()) {
+            Map<Long, Float> termPostings = postings.get(term);
+            if (termPostings != null && termPostings.remove(id) != null && termPostings.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static Map<String, Float> weights( Task task) {
+        Map<String, Float> weights = terms(task.getTaskName(), NAME_WEIGHT);
+        terms(task.getDescription(), DESCRIPTION_WEIGHT).forEach((term, weight) -> weights.merge(term, weight, Float::sum));
+        return weights;
+    }
+
+    /**
+     * Splits the text into lower-cased words and sums the given weight per occurrence.
+     */
+    private static Map<String, Float> terms( String text, float weight) {
+        Map<String, Float> terms = new HashMap<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String word : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                terms.merge(word, weight, Float::sum);
+            }
+        }
+        return terms;
+    }
+}
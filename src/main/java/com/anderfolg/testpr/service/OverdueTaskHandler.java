@@ -0,0 +1,16 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.model.Task;
+
+import java.util.List;
+
+/**
+ * Hook for the overdue-task engine. Every registered handler is called with each chunk of overdue tasks,
+ * after the chunk has been marked (with the `MARK` action) or as read (with `NOTIFY`).
+ * Chunks are processed by several workers at once, so implementations must be thread-safe.
+ * With `NOTIFY`, a failed pass is repeated, so a handler may see the same task more than once.
+ */
+public interface OverdueTaskHandler {
+
+    void onOverdue( List<Task> tasks);
+}
@@ -0,0 +1,57 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.exception.TaskValidationException;
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Full-text search backed by PostgreSQL. Task name and description are indexed in a stored, generated `tsvector` column,
+ * so the database keeps it up to date on every write, whichever API or statement made it. The name is weighted above
+ * the description, and a GIN index keeps matching independent of the table size.
+ * The column and index are not part of the JPA model; they are created by the `V1` schema migration.
+ */
+@Service
+@ConditionalOnProperty(prefix = "tasks.text-search", name = "engine", havingValue = "postgres", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class PostgresTaskTextSearchService implements TaskTextSearchService {
+
+    private final TaskRepository taskRepository;
+    private final TaskProperties taskProperties;
+
+    /**
+     * Searches task names and descriptions for the query, best matches first.
+     *
+     * @param query    Words to search for; "quoted phrases", `or` and `-excluded` words are supported.
+     * @param pageable The requested page and size. Any sort is ignored, results are ordered by rank.
+     * @return The requested page of matching Task entities.
+     * @throws IllegalArgumentException if the query is blank.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Task> search( String query, Pageable pageable) {
+        log.debug("Searching tasks by text: {}", query);
+        return taskRepository.searchByText(query, pageRequest(query, pageable, taskProperties));
+    }
+
+    /**
+     * Validates the query and builds an unsorted page request capped at the configured maximum page size.
+     * Shared with `InMemoryTaskTextSearchService`.
+     */
+    static PageRequest pageRequest( String query, Pageable pageable, TaskProperties taskProperties) {
+        if (query == null || query.isBlank()) {
+            throw new TaskValidationException("Search query must not be empty");
+        }
+        int pageSize = Math.min(pageable.getPageSize(), taskProperties.getPagination().getMaxSize());
+        return PageRequest.of(pageable.getPageNumber(), pageSize);
+    }
+}
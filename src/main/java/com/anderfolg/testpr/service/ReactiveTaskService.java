@@ -0,0 +1,17 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.model.DTO.TaskDTO;
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.model.enums.Status;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveTaskService {
+    Mono<Task> createTask( TaskDTO taskDTO);
+    Mono<Task> getTaskById( Long id);
+    Flux<Task> getAllTasks();
+    Flux<Task> getTasksByStatus( Status status);
+    Mono<Task> updateTask( Long id, TaskDTO taskDTO, Long expectedVersion);
+    Mono<Task> updateTaskStatus( Long id, Status status, Long expectedVersion);
+    Mono<Void> deleteTask( Long id, Long expectedVersion);
+}
@@ -0,0 +1,176 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.event.TaskChangedEvent;
+import com.anderfolg.testpr.exception.TaskNotFoundException;
+import com.anderfolg.testpr.exception.TaskVersionMismatchException;
+import com.anderfolg.testpr.model.DTO.TaskDTO;
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.model.enums.TaskChangeType;
+import com.anderfolg.testpr.repository.ReactiveTaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Provides a non-blocking implementation of the `ReactiveTaskService` interface, active with the `reactive` profile.
+ * It mirrors `TaskServiceImpl` on top of the `ReactiveTaskRepository`; list operations are returned as
+ * `Flux` streams, so rows are emitted as they are read and honour subscriber demand.
+ * Like `TaskServiceImpl`, every write publishes a `TaskChangedEvent`, once its statement has completed. R2DBC runs
+ * each statement in its own transaction, so listeners are called right away, on the thread that emitted the row.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveTaskServiceImpl implements ReactiveTaskService {
+
+    private final ReactiveTaskRepository reactiveTaskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Creates a new pending task from the provided TaskDTO and inserts it in a single statement.
+     *
+     * @param taskDTO The data transfer object containing task details.
+     * @return A Mono emitting the created Task, or an `IllegalArgumentException` if the task name is empty or blank.
+     */
+    @Override
+    public Mono<Task> createTask(TaskDTO taskDTO) {
+        log.debug("Creating new task");
+        return Mono.fromCallable(() -> TaskServiceImpl.validateTaskName(taskDTO.taskName()))
+                .flatMap(taskName -> reactiveTaskRepository.insert(taskName, taskDTO.description(),
+                        Status.PENDING.name(), LocalDateTime.now(), taskDTO.dueDate()))
+                .doOnNext(task -> eventPublisher.publishEvent(TaskChangedEvent.created(task)));
+    }
+
+    /**
+     * Retrieves a task by its ID.
+     *
+     * @param id The ID of the task to retrieve.
+     * @return A Mono emitting the Task, or a `TaskNotFoundException` if it does not exist.
+     */
+    @Override
+    public Mono<Task> getTaskById(Long id) {
+        log.debug("Getting task by id: {}", id);
+        return reactiveTaskRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new TaskNotFoundException(id)));
+    }
+
+    /**
+     * Streams all tasks.
+     *
+     * @return A Flux emitting every Task as it is read from the database.
+     */
+    @Override
+    public Flux<Task> getAllTasks() {
+        log.debug("Getting all tasks");
+        return reactiveTaskRepository.findAll();
+    }
+
+    /**
+     * Streams the tasks with the specified status.
+     *
+     * @param status The status to filter tasks by.
+     * @return A Flux emitting each matching Task as it is read from the database.
+     */
+    @Override
+    public Flux<Task> getTasksByStatus(Status status) {
+        log.debug("Getting tasks by status: {}", status);
+        return reactiveTaskRepository.findAllByStatus(status.name());
+    }
+
+    /**
+     * Updates an existing task with the provided details (optional) from the TaskDTO object.
+     * Fields missing from the TaskDTO remain unchanged.
+     *
+     * @param id              The ID of the task to update.
+     * @param taskDTO         The data transfer object containing task details (optional for update).
+     * @param expectedVersion The version the caller last saw, or null to update whatever the current version is.
+     * @return A Mono emitting the updated Task, a `TaskNotFoundException` if it does not exist,
+     * or a `TaskVersionMismatchException` if it is no longer at the expected version.
+     */
+    @Override
+    public Mono<Task> updateTask(Long id, TaskDTO taskDTO, Long expectedVersion) {
+        log.debug("Updating task with id: {}", id);
+        return getTaskById(id)
+                .flatMap(taskToUpdate -> {
+                    if (expectedVersion != null && !expectedVersion.equals(taskToUpdate.getVersion())) {
+                        return Mono.error(new TaskVersionMismatchException(id, expectedVersion));
+                    }
+                    Task previous = taskToUpdate.toBuilder().build();
+                    if (taskDTO.taskName() != null) {
+                        taskToUpdate.setTaskName(TaskServiceImpl.validateTaskName(taskDTO.taskName()));
+                    }
+                    if (taskDTO.description() != null) {
+                        taskToUpdate.setDescription(taskDTO.description());
+                    }
+                    if (taskDTO.dueDate() != null) {
+                        taskToUpdate.setDueDate(taskDTO.dueDate());
+                    }
+                    return reactiveTaskRepository.save(taskToUpdate)
+                            .doOnNext(updatedTask -> eventPublisher.publishEvent(
+                                    TaskChangedEvent.of(TaskChangeType.UPDATED, updatedTask, previous)));
+                });
+    }
+
+    /**
+     * Updates the status of an existing task in a single UPDATE ... RETURNING statement, which returns the previous row;
+     * the updated task is that row with the new status and version.
+     *
+     * @param id              The ID of the task to update the status for.
+     * @param status          The new status to set for the task.
+     * @param expectedVersion The version the caller last saw, or null to update whatever the current version is.
+     * @return A Mono emitting the updated Task, a `TaskNotFoundException` if it does not exist,
+     * or a `TaskVersionMismatchException` if it is no longer at the expected version.
+     */
+    @Override
+    public Mono<Task> updateTaskStatus(Long id, Status status, Long expectedVersion) {
+        log.debug("Updating task status with id: {}", id);
+        return reactiveTaskRepository.updateStatusByIdReturningPrevious(id, status.name(), expectedVersion)
+                .switchIfEmpty(notWritten(id, expectedVersion))
+                .map(previous -> {
+                    Task updatedTask = previous.toBuilder()
+                            .status(status)
+                            .version(previous.getVersion() + 1)
+                            .build();
+                    eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.STATUS_CHANGED, updatedTask, previous));
+                    return updatedTask;
+                });
+    }
+
+    /**
+     * Deletes an existing task in a single DELETE ... RETURNING statement.
+     *
+     * @param id              The ID of the task to delete.
+     * @param expectedVersion The version the caller last saw, or null to delete whatever the current version is.
+     * @return A Mono completing when the task is deleted, a `TaskNotFoundException` if it does not exist,
+     * or a `TaskVersionMismatchException` if it is no longer at the expected version.
+     */
+    @Override
+    public Mono<Void> deleteTask(Long id, Long expectedVersion) {
+        log.debug("Deleting task with id: {}", id);
+        return reactiveTaskRepository.deleteTaskById(id, expectedVersion)
+                .switchIfEmpty(notWritten(id, expectedVersion))
+                .doOnNext(deletedTask -> eventPublisher.publishEvent(TaskChangedEvent.deleted(deletedTask)))
+                .then();
+    }
+
+    /**
+     * Explains why a conditional write matched no row: the task is gone, or it is at another version.
+     */
+    private Mono<Task> notWritten(Long id, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return Mono.error(() -> new TaskNotFoundException(id));
+        }
+        return Mono.defer(() -> reactiveTaskRepository.existsById(id))
+                .flatMap(exists -> Mono.error(exists
+                        ? new TaskVersionMismatchException(id, expectedVersion)
+                        : new TaskNotFoundException(id)));
+    }
+}
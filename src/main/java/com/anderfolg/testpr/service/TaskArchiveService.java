@@ -0,0 +1,6 @@
+package com.anderfolg.testpr.service;
+
+public interface TaskArchiveService {
+
+    long archiveCompleted();
+}
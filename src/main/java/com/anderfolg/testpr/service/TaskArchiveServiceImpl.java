@@ -0,0 +1,89 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.config.CacheConfig;
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.repository.TaskArchiveRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Moves completed tasks to the `task_archive` table, enabled with `tasks.archive.enabled`.
+ * Every pass archives the DONE tasks created more than `olderThan` ago in chunks of `batchSize`, each chunk in its own
+ * short transaction, so the hot table and its indexes only hold the working set. Archived tasks keep their ID and are
+ * still returned by {@link TaskService#getTaskById(Long)}; no `TaskChangedEvent` is published, since the tasks themselves
+ * do not change.
+ */
+@Service
+@ConditionalOnProperty(prefix = "tasks.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class TaskArchiveServiceImpl implements TaskArchiveService {
+
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final TaskProperties.Archive properties;
+    private final TaskScheduler taskScheduler;
+    private final CacheManager cacheManager;
+    private final Counter archived;
+
+    private ScheduledFuture<?> schedule;
+
+    public TaskArchiveServiceImpl( TaskArchiveRepository taskArchiveRepository, TaskProperties taskProperties,
+                                   TaskScheduler taskScheduler, CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.taskArchiveRepository = taskArchiveRepository;
+        this.properties = taskProperties.getArchive();
+        this.taskScheduler = taskScheduler;
+        this.cacheManager = cacheManager;
+        this.archived = meterRegistry.counter("task.archive.archived");
+    }
+
+    @PostConstruct
+    void schedulePasses() {
+        schedule = taskScheduler.scheduleWithFixedDelay(
+                this::archiveCompleted, Instant.now().plus(properties.getInterval()), properties.getInterval());
+    }
+
+    @PreDestroy
+    void cancelPasses() {
+        schedule.cancel(false);
+    }
+
+    /**
+     * Runs one archival pass. A chunk shorter than `batchSize` means nothing is left to archive.
+     *
+     * @return The number of tasks archived by this pass.
+     */
+    @Override
+    public synchronized long archiveCompleted() {
+        LocalDateTime before = LocalDateTime.now().minus(properties.getOlderThan());
+        int batchSize = properties.getBatchSize();
+        long total = 0;
+        int chunk;
+        do {
+            chunk = taskArchiveRepository.archiveChunk(Status.DONE.name(), before, batchSize);
+            total += chunk;
+            archived.increment(chunk);
+        } while (chunk == batchSize);
+
+        if (total > 0) {
+            // Archived tasks no longer come back from the status listing.
+            Cache tasksByStatus = cacheManager.getCache(CacheConfig.TASKS_BY_STATUS);
+            if (tasksByStatus != null) {
+                tasksByStatus.evict(Status.DONE);
+            }
+            log.info("Archived {} tasks completed and created before {}", total, before);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,78 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.event.TaskChangedEvent;
+import com.anderfolg.testpr.model.DTO.TaskChange;
+import com.anderfolg.testpr.model.DTO.TaskChangeBatch;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Bounded, in-memory log of committed task changes. Every change gets the next sequence number and the
+ * last `tasks.changes.buffer-size` changes are kept in a ring buffer, so readers can resume from any
+ * recent sequence. Readers that fall further behind, or ask for a sequence from before a restart,
+ * get a reset instead of a silent gap.
+ * Listeners are notified after each append and pull the changes themselves, at their own pace.
+ */
+@Component
+public class TaskChangeFeed {
+
+    private final TaskChange[] ring;
+    private final Set<Runnable> listeners = new CopyOnWriteArraySet<>();
+    private long lastSequence;
+
+    public TaskChangeFeed( TaskProperties taskProperties) {
+        this.ring = new TaskChange[taskProperties.getChanges().getBufferSize()];
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged( TaskChangedEvent event) {
+        append(event);
+        listeners.forEach(Runnable::run);
+    }
+
+    synchronized TaskChange append( TaskChangedEvent event) {
+        long sequence = ++lastSequence;
+        TaskChange change = new TaskChange(sequence, event.type(), event.taskId(), event.task(), LocalDateTime.now());
+        ring[(int) (sequence % ring.length)] = change;
+        return change;
+    }
+
+    /**
+     * Reads the changes following the given sequence, oldest first.
+     *
+     * @param after    The sequence of the last change the reader has seen, or 0 for none.
+     * @param maxCount The maximum number of changes to return.
+     * @return The changes after the given sequence, or a reset if they are no longer available.
+     */
+    public synchronized TaskChangeBatch read( long after, int maxCount) {
+        long oldestAvailable = Math.max(1, lastSequence - ring.length + 1);
+        if (after > lastSequence || after < oldestAvailable - 1) {
+            return new TaskChangeBatch(List.of(), lastSequence, true);
+        }
+        long until = Math.min(lastSequence, after + maxCount);
+        List<TaskChange> changes = new ArrayList<>((int) (until - after));
+        for (long sequence = after + 1; sequence <= until; sequence++) {
+            changes.add(ring[(int) (sequence % ring.length)]);
+        }
+        return new TaskChangeBatch(changes, until, false);
+    }
+
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    public void addListener( Runnable listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener( Runnable listener) {
+        listeners.remove(listener);
+    }
+}
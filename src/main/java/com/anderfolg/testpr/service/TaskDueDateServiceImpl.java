@@ -0,0 +1,219 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.config.CacheConfig;
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.event.TaskChangedEvent;
+import com.anderfolg.testpr.model.DueDateCheckpoint;
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.model.enums.OverdueAction;
+import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.model.enums.TaskChangeType;
+import com.anderfolg.testpr.repository.DueDateCheckpointRepository;
+import com.anderfolg.testpr.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Processes pending tasks past their due date, enabled with `tasks.due-dates.enabled`.
+ * Each pass takes the ID range of the overdue tasks, splits it into one contiguous range per worker and walks every range
+ * in keyset-paginated chunks, so no statement touches more than `chunkSize` rows or holds its locks beyond a single chunk.
+ * `MARK` moves each chunk to the configured status in one UPDATE ... RETURNING statement and publishes a `TaskChangedEvent`
+ * per task; marked tasks no longer match the scan, so an interrupted pass simply resumes with the next one.
+ * `NOTIFY` leaves the tasks unchanged and only scans due dates from the end of the last completed pass, which is
+ * checkpointed in the database, so each task is notified once per due date unless a pass fails.
+ */
+@Service
+@ConditionalOnProperty(prefix = "tasks.due-dates", name = "enabled", havingValue = "true")
+@Slf4j
+public class TaskDueDateServiceImpl implements TaskDueDateService {
+
+    /**
+     * Lower bound of the due-date window when nothing has been checkpointed yet.
+     */
+    static final LocalDateTime BEGINNING = LocalDateTime.of(1, 1, 1, 0, 0);
+
+    private final TaskRepository taskRepository;
+    private final DueDateCheckpointRepository checkpointRepository;
+    private final TaskProperties.DueDates properties;
+    private final TaskScheduler taskScheduler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final List<OverdueTaskHandler> handlers;
+    private final ExecutorService workers;
+    private final Counter processed;
+
+    private ScheduledFuture<?> schedule;
+
+    public TaskDueDateServiceImpl( TaskRepository taskRepository, DueDateCheckpointRepository checkpointRepository,
+                                   TaskProperties taskProperties, TaskScheduler taskScheduler,
+                                   ApplicationEventPublisher eventPublisher, CacheManager cacheManager,
+                                   ObjectProvider<OverdueTaskHandler> handlers, MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.properties = taskProperties.getDueDates();
+        this.taskScheduler = taskScheduler;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.handlers = handlers.orderedStream().toList();
+        this.workers = Executors.newFixedThreadPool(properties.getWorkers(), new CustomizableThreadFactory("task-due-dates-"));
+        this.processed = meterRegistry.counter("task.overdue.processed", "action", properties.getAction().name());
+    }
+
+    @PostConstruct
+    void schedulePasses() {
+        schedule = taskScheduler.scheduleWithFixedDelay(
+                this::processOverdue, Instant.now().plus(properties.getInterval()), properties.getInterval());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        schedule.cancel(false);
+        workers.shutdown();
+    }
+
+    /**
+     * Runs one pass over the tasks that are pending and past their due date.
+     *
+     * @return The number of tasks marked or notified by this pass.
+     */
+    @Override
+    public synchronized long processOverdue() {
+        OverdueAction action = properties.getAction();
+        LocalDateTime before = LocalDateTime.now();
+        LocalDateTime from = action == OverdueAction.NOTIFY
+                ? checkpointRepository.findById(action.name()).map(DueDateCheckpoint::getProcessedBefore).orElse(BEGINNING)
+                : BEGINNING;
+
+        List<Object[]> range = taskRepository.findIdRangeByStatusAndDueDateBetween(Status.PENDING, from, before);
+        if (range.isEmpty() || range.get(0)[0] == null) {
+            checkpoint(action, before);
+            return 0;
+        }
+        long firstId = (Long) range.get(0)[0];
+        long lastId = (Long) range.get(0)[1];
+
+        List<Future<Long>> partitions = new ArrayList<>();
+        for (IdRange partition : partition(firstId, lastId, properties.getWorkers())) {
+            partitions.add(workers.submit(() -> processPartition(action, partition, from, before)));
+        }
+        long total = 0;
+        boolean complete = true;
+        for (Future<Long> partition : partitions) {
+            try {
+                total += partition.get();
+            } catch (ExecutionException e) {
+                complete = false;
+                log.error("Overdue task partition failed: {}", e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                partitions.forEach(remaining -> remaining.cancel(true));
+                return total;
+            }
+        }
+        if (complete) {
+            checkpoint(action, before);
+        }
+        log.info("Processed {} overdue tasks due before {} with {}", total, before, action);
+        return total;
+    }
+
+    /**
+     * Walks one ID range chunk by chunk. A chunk shorter than `chunkSize` means the range is exhausted.
+     */
+    long processPartition( OverdueAction action, IdRange partition, LocalDateTime from, LocalDateTime before) {
+        int chunkSize = properties.getChunkSize();
+        long afterId = partition.first() - 1;
+        long count = 0;
+        while (true) {
+            List<Task> chunk = action == OverdueAction.MARK
+                    ? markChunk(from, before, afterId, partition.last(), chunkSize)
+                    : taskRepository.findDueChunk(Status.PENDING, from, before, afterId, partition.last(), PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                return count;
+            }
+            for (OverdueTaskHandler handler : handlers) {
+                handler.onOverdue(chunk);
+            }
+            count += chunk.size();
+            processed.increment(chunk.size());
+            if (chunk.size() < chunkSize) {
+                return count;
+            }
+            for (Task task : chunk) {
+                afterId = Math.max(afterId, task.getId());
+            }
+        }
+    }
+
+    /**
+     * Marks one chunk and returns the marked tasks. The chunk is already committed, so the events are delivered right away
+     * and the cached copies of the tasks are evicted.
+     */
+    private List<Task> markChunk( LocalDateTime from, LocalDateTime before, long afterId, long lastId, int chunkSize) {
+        Status markStatus = properties.getMarkStatus();
+        List<Task> previousTasks = taskRepository.updateDueChunkStatusReturningPrevious(
+                Status.PENDING.name(), markStatus.name(), from, before, afterId, lastId, chunkSize);
+        if (previousTasks.isEmpty()) {
+            return previousTasks;
+        }
+        Cache tasks = cacheManager.getCache(CacheConfig.TASKS);
+        Cache tasksByStatus = cacheManager.getCache(CacheConfig.TASKS_BY_STATUS);
+        List<Task> markedTasks = new ArrayList<>(previousTasks.size());
+        for (Task previous : previousTasks) {
+            Task marked = previous.toBuilder()
+                    .status(markStatus)
+                    .version(previous.getVersion() + 1)
+                    .build();
+            markedTasks.add(marked);
+            if (tasks != null) {
+                tasks.evict(marked.getId());
+            }
+            eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.STATUS_CHANGED, marked, previous));
+        }
+        if (tasksByStatus != null) {
+            tasksByStatus.clear();
+        }
+        return markedTasks;
+    }
+
+    private void checkpoint( OverdueAction action, LocalDateTime processedBefore) {
+        checkpointRepository.save(new DueDateCheckpoint(action.name(), processedBefore, LocalDateTime.now()));
+    }
+
+    /**
+     * Splits `[first, last]` into at most `count` contiguous ranges of about the same width.
+     */
+    static List<IdRange> partition( long first, long last, int count) {
+        long width = Math.max(1, (last - first + count) / count);
+        List<IdRange> ranges = new ArrayList<>(count);
+        for (long start = first; start <= last; start += width) {
+            ranges.add(new IdRange(start, Math.min(last, start + width - 1)));
+        }
+        return ranges;
+    }
+
+    record IdRange( long first, long last) {
+    }
+}
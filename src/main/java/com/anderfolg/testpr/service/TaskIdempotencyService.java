@@ -0,0 +1,13 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.model.DTO.TaskDTO;
+import com.anderfolg.testpr.model.Task;
+
+import java.util.List;
+
+public interface TaskIdempotencyService {
+
+    Task createTask( String key, TaskDTO taskDTO);
+
+    List<Task> createTasks( String key, List<TaskDTO> taskDTOs);
+}
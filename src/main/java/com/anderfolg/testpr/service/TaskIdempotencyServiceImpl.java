@@ -0,0 +1,262 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.exception.IdempotencyKeyReusedException;
+import com.anderfolg.testpr.exception.TaskValidationException;
+import com.anderfolg.testpr.model.DTO.TaskDTO;
+import com.anderfolg.testpr.model.IdempotencyRecord;
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Creates tasks at most once per `Idempotency-Key`. The first request with a key creates its tasks and records the key,
+ * a hash of the request body and the created tasks in the same transaction; retries get the recorded tasks back without
+ * another insert. Retries arriving at the same time on this instance wait on the lock of the key's stripe, so the second
+ * one finds the first one's record. Across instances the key's primary key decides: the losing transaction is rolled back,
+ * tasks included, and answers with the winner's record instead.
+ * Recent records are also cached in memory; both the cache and the table forget a key after `timeToLive`.
+ */
+@Service
+@Slf4j
+public class TaskIdempotencyServiceImpl implements TaskIdempotencyService {
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private static final TypeReference<List<Task>> TASK_LIST = new TypeReference<>() {
+    };
+
+    private final TaskService taskService;
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionOperations transactionOperations;
+    private final ObjectMapper objectMapper;
+    private final TaskScheduler taskScheduler;
+    private final TaskProperties.Idempotency properties;
+    private final Cache<String, StoredResponse> responses;
+    private final ReentrantLock[] locks;
+    private final Counter replayed;
+
+    private ScheduledFuture<?> purge;
+
+    public TaskIdempotencyServiceImpl( TaskService taskService, IdempotencyRecordRepository idempotencyRecordRepository,
+                                       TransactionOperations transactionOperations, ObjectMapper objectMapper,
+                                       TaskScheduler taskScheduler, TaskProperties taskProperties, MeterRegistry meterRegistry) {
+        this.taskService = taskService;
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.transactionOperations = transactionOperations;
+        this.objectMapper = objectMapper;
+        this.taskScheduler = taskScheduler;
+        this.properties = taskProperties.getIdempotency();
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new Expiry<String, StoredResponse>() {
+                    @Override
+                    public long expireAfterCreate( String key, StoredResponse response, long currentTime) {
+                        return timeLeft(response).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate( String key, StoredResponse response, long currentTime, long currentDuration) {
+                        return timeLeft(response).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead( String key, StoredResponse response, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.locks = new ReentrantLock[properties.getLockStripes()];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.replayed = meterRegistry.counter("task.idempotency.replayed");
+    }
+
+    @PostConstruct
+    void schedulePurge() {
+        purge = taskScheduler.scheduleWithFixedDelay(
+                this::purgeExpired, Instant.now().plus(properties.getPurgeInterval()), properties.getPurgeInterval());
+    }
+
+    @PreDestroy
+    void cancelPurge() {
+        purge.cancel(false);
+    }
+
+    /**
+     * Creates a task once per key, like {@link TaskService#createTask(TaskDTO)}.
+     *
+     * @param key     The client-chosen idempotency key.
+     * @param taskDTO The data transfer object containing task details.
+     * @return The task created by the first request with this key.
+     * @throws IllegalArgumentException if the key is blank or too long, or the task name is empty or blank.
+     * @throws IdempotencyKeyReusedException if the key was first used with a different request.
+     */
+    @Override
+    public Task createTask( String key, TaskDTO taskDTO) {
+        return createOnce(key, taskDTO, () -> List.of(taskService.createTask(taskDTO))).get(0);
+    }
+
+    /**
+     * Creates tasks in bulk once per key, like {@link TaskService#createTasks(List)}.
+     *
+     * @param key      The client-chosen idempotency key.
+     * @param taskDTOs The data transfer objects containing the details of each task.
+     * @return The tasks created by the first request with this key.
+     * @throws IllegalArgumentException if the key is blank or too long, a task name is empty or blank, or the batch is too large.
+     * @throws IdempotencyKeyReusedException if the key was first used with a different request.
+     */
+    @Override
+    public List<Task> createTasks( String key, List<TaskDTO> taskDTOs) {
+        return createOnce(key, taskDTOs, () -> taskService.createTasks(taskDTOs));
+    }
+
+    /**
+     * Deletes the records older than `timeToLive`. Their keys can then be used again.
+     */
+    void purgeExpired() {
+        int purged = idempotencyRecordRepository.deleteCreatedBefore(LocalDateTime.now().minus(properties.getTimeToLive()));
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private List<Task> createOnce( String key, Object request, Supplier<List<Task>> create) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new TaskValidationException("Idempotency key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        String requestHash = hash(request);
+        ReentrantLock lock = locks[Math.floorMod(key.hashCode(), locks.length)];
+        lock.lock();
+        try {
+            StoredResponse stored = responses.getIfPresent(key);
+            if (stored == null) {
+                stored = load(key);
+            }
+            if (stored == null) {
+                stored = record(key, requestHash, create);
+            } else {
+                replayed.increment();
+            }
+            if (!stored.requestHash().equals(requestHash)) {
+                throw new IdempotencyKeyReusedException(key);
+            }
+            return stored.tasks();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Creates the tasks and records the key in one transaction. If another instance recorded the key first,
+     * this transaction is rolled back and the other instance's record is returned.
+     */
+    private StoredResponse record( String key, String requestHash, Supplier<List<Task>> create) {
+        try {
+            StoredResponse stored = transactionOperations.execute(status -> {
+                List<Task> tasks = create.get();
+                LocalDateTime createdAt = LocalDateTime.now();
+                idempotencyRecordRepository.saveAndFlush(new IdempotencyRecord(key, requestHash, encode(tasks), createdAt));
+                return new StoredResponse(requestHash, tasks, createdAt);
+            });
+            responses.put(key, stored);
+            return stored;
+        } catch (DataIntegrityViolationException e) {
+            log.info("Idempotency key {} was recorded concurrently", key);
+            StoredResponse stored = load(key);
+            if (stored == null) {
+                throw e;
+            }
+            replayed.increment();
+            return stored;
+        }
+    }
+
+    /**
+     * Reads the record of a key into the cache. An expired record that was not purged yet is deleted, so the key can be
+     * recorded again. The read runs in a read-write transaction so it is served by the primary database, never by a
+     * replica that may not have the record yet.
+     */
+    private StoredResponse load( String key) {
+        StoredResponse stored = transactionOperations.execute(status -> {
+            IdempotencyRecord record = idempotencyRecordRepository.findById(key).orElse(null);
+            if (record == null) {
+                return null;
+            }
+            StoredResponse response = new StoredResponse(record.getRequestHash(), decode(record.getResponse()), record.getCreatedAt());
+            if (timeLeft(response).isZero()) {
+                idempotencyRecordRepository.delete(record);
+                return null;
+            }
+            return response;
+        });
+        if (stored != null) {
+            responses.put(key, stored);
+        }
+        return stored;
+    }
+
+    private Duration timeLeft( StoredResponse response) {
+        Duration left = Duration.between(LocalDateTime.now(), response.createdAt().plus(properties.getTimeToLive()));
+        return left.isNegative() ? Duration.ZERO : left;
+    }
+
+    /**
+     * Hashes the JSON form of a request, so a retry matches when it carries the same values.
+     */
+    String hash( Object request) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String encode( List<Task> tasks) {
+        try {
+            return objectMapper.writeValueAsString(tasks);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Task> decode( String response) {
+        try {
+            return objectMapper.readValue(response, TASK_LIST);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    record StoredResponse( String requestHash, List<Task> tasks, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.model.DTO.TaskDTO;
+import com.anderfolg.testpr.model.DTO.TaskIngestionReceipt;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TaskIngestionService {
+
+    TaskIngestionReceipt submit( TaskDTO taskDTO);
+
+    Optional<TaskIngestionReceipt> getReceipt( UUID trackingId);
+}
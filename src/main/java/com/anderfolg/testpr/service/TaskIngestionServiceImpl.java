@@ -0,0 +1,259 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.exception.IngestionRejectedException;
+import com.anderfolg.testpr.model.DTO.TaskDTO;
+import com.anderfolg.testpr.model.DTO.TaskIngestionReceipt;
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.model.enums.IngestionState;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Write-behind ingestion of new tasks, enabled with `tasks.ingestion.enabled`.
+ * Submitted tasks are validated and appended to a bounded queue; a single writer thread drains it in batches
+ * through {@link TaskService#createTasks(List)}, so request latency no longer includes the database commit.
+ * A full queue rejects new submissions instead of blocking request threads. On shutdown the queue is drained
+ * after the web server has stopped accepting requests and before the datasource is closed.
+ * Transient database failures are retried up to `writeAttempts` times with doubling backoff. A batch that still
+ * fails is written task by task, so only the tasks that cannot be written are marked `FAILED`.
+ */
+@Service
+@ConditionalOnProperty(prefix = "tasks.ingestion", name = "enabled", havingValue = "true")
+@Slf4j
+public class TaskIngestionServiceImpl implements TaskIngestionService, SmartLifecycle {
+
+    /**
+     * Stops after the web server (which stops at {@code DEFAULT_PHASE - 2048}), so no submission can race the final drain.
+     */
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final TaskService taskService;
+    private final TaskProperties.Ingestion properties;
+    private final BlockingQueue<PendingTask> queue;
+    private final Cache<UUID, TaskIngestionReceipt> receipts;
+    private final Counter rejected;
+    private final Counter retried;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public TaskIngestionServiceImpl( TaskService taskService, TaskProperties taskProperties, MeterRegistry meterRegistry) {
+        this.taskService = taskService;
+        this.properties = taskProperties.getIngestion();
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.receipts = Caffeine.newBuilder()
+                .maximumSize(properties.getTrackedReceipts())
+                .expireAfterWrite(properties.getReceiptTimeToLive())
+                .build();
+        this.rejected = meterRegistry.counter("task.ingestion.rejected");
+        this.retried = meterRegistry.counter("task.ingestion.retried");
+        this.failed = meterRegistry.counter("task.ingestion.failed");
+        Gauge.builder("task.ingestion.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    /**
+     * Validates the task and queues it for writing.
+     *
+     * @param taskDTO The data transfer object containing task details.
+     * @return A receipt in the `QUEUED` state whose tracking ID can be used to look up the created task.
+     * @throws IllegalArgumentException if the task name is empty or blank.
+     * @throws IngestionRejectedException if the queue is full or the writer is not running.
+     */
+    @Override
+    public TaskIngestionReceipt submit( TaskDTO taskDTO) {
+        TaskServiceImpl.validateTaskName(taskDTO.taskName());
+        if (!running) {
+            rejected.increment();
+            throw new IngestionRejectedException("Task ingestion is not accepting tasks");
+        }
+        TaskIngestionReceipt receipt = new TaskIngestionReceipt(UUID.randomUUID(), IngestionState.QUEUED, null);
+        receipts.put(receipt.trackingId(), receipt);
+        if (!queue.offer(new PendingTask(receipt.trackingId(), taskDTO))) {
+            receipts.invalidate(receipt.trackingId());
+            rejected.increment();
+            throw new IngestionRejectedException("Task ingestion queue is full");
+        }
+        return receipt;
+    }
+
+    @Override
+    public Optional<TaskIngestionReceipt> getReceipt( UUID trackingId) {
+        return Optional.ofNullable(receipts.getIfPresent(trackingId));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::drainLoop, "task-ingestion-writer");
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            writer.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            log.warn("Task ingestion writer did not finish within {}; {} queued tasks were not written",
+                    properties.getShutdownTimeout(), queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void drainLoop() {
+        List<PendingTask> batch = new ArrayList<>(properties.getBatchSize());
+        try {
+            while (running || !queue.isEmpty()) {
+                if (fillBatch(batch)) {
+                    write(batch);
+                    batch.clear();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Task ingestion writer interrupted; {} queued tasks were not written", queue.size() + batch.size());
+        }
+    }
+
+    /**
+     * Waits briefly for a first task, then keeps collecting until the batch is full or `maxDelay` has passed since it arrived.
+     * Once shutdown has started, whatever is queued is taken without waiting.
+     */
+    boolean fillBatch( List<PendingTask> batch) throws InterruptedException {
+        int batchSize = properties.getBatchSize();
+        long maxDelayNanos = properties.getMaxDelay().toNanos();
+        PendingTask first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return false;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                break;
+            }
+            PendingTask next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return true;
+    }
+
+    void write( List<PendingTask> batch) {
+        List<Task> created;
+        try {
+            created = withRetries(() -> taskService.createTasks(batch.stream().map(PendingTask::taskDTO).toList()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {} ingested tasks as a batch, writing them one by one: {}", batch.size(), e.getMessage());
+            writeOneByOne(batch);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            UUID trackingId = batch.get(i).trackingId();
+            receipts.put(trackingId, new TaskIngestionReceipt(trackingId, IngestionState.CREATED, created.get(i).getId()));
+        }
+    }
+
+    /**
+     * Writes each task on its own, so a task the database rejects does not fail the others. Once a task still fails
+     * transiently after all retries, the database is taken to be unavailable and the rest are marked failed at once.
+     */
+    private void writeOneByOne( List<PendingTask> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingTask pendingTask = batch.get(i);
+            try {
+                Task task = withRetries(() -> taskService.createTask(pendingTask.taskDTO()));
+                receipts.put(pendingTask.trackingId(), new TaskIngestionReceipt(pendingTask.trackingId(), IngestionState.CREATED, task.getId()));
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    log.error("Failed to write {} ingested tasks: {}", batch.size() - i, e.getMessage());
+                    batch.subList(i, batch.size()).forEach(this::markFailed);
+                    return;
+                }
+                log.error("Failed to write ingested task {}: {}", pendingTask.trackingId(), e.getMessage());
+                markFailed(pendingTask);
+            }
+        }
+    }
+
+    private void markFailed( PendingTask pendingTask) {
+        failed.increment();
+        receipts.put(pendingTask.trackingId(), new TaskIngestionReceipt(pendingTask.trackingId(), IngestionState.FAILED, null));
+    }
+
+    private <T> T withRetries( Supplier<T> write) {
+        long backoffNanos = properties.getRetryBackoff().toNanos();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return write.get();
+            } catch (RuntimeException e) {
+                if (!isTransient(e) || attempt >= properties.getWriteAttempts()) {
+                    throw e;
+                }
+                log.warn("Writing ingested tasks failed (attempt {} of {}), retrying: {}",
+                        attempt, properties.getWriteAttempts(), e.getMessage());
+                retried.increment();
+                try {
+                    TimeUnit.NANOSECONDS.sleep(backoffNanos);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+                backoffNanos *= 2;
+            }
+        }
+    }
+
+    /**
+     * Failures that may pass on their own: lost or unavailable connections, lock and serialization conflicts, timeouts.
+     */
+    static boolean isTransient( RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    record PendingTask( UUID trackingId, TaskDTO taskDTO) {
+    }
+}
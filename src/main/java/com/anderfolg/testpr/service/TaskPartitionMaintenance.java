@@ -0,0 +1,162 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.config.TaskProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Keeps the monthly partitions of the `task` table ahead of time, enabled with `tasks.partitions.enabled`.
+ * On startup and every `checkInterval` the partitions of the current month and the next `monthsAhead` months are
+ * created if missing. When the default partition already holds rows in the range of a missing partition, the partition
+ * is created with the default partition detached and those rows are moved into it, in one transaction.
+ * Monthly partitions that ended more than `tasks.archive.older-than` ago are dropped once they are empty, typically after
+ * archival has moved their completed tasks out, so lookups by ID do not have to probe a growing list of dead partitions.
+ */
+@Service
+@ConditionalOnProperty(prefix = "tasks.partitions", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class TaskPartitionMaintenance {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final String DEFAULT_PARTITION = "task_default";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskProperties.Partitions properties;
+    private final Duration olderThan;
+    private final TaskScheduler taskScheduler;
+
+    private ScheduledFuture<?> schedule;
+
+    public TaskPartitionMaintenance( JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                     TaskProperties taskProperties, TaskScheduler taskScheduler) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = taskProperties.getPartitions();
+        this.olderThan = taskProperties.getArchive().getOlderThan();
+        this.taskScheduler = taskScheduler;
+    }
+
+    @PostConstruct
+    void scheduleChecks() {
+        schedule = taskScheduler.scheduleWithFixedDelay(this::maintainPartitions, Instant.now(), properties.getCheckInterval());
+    }
+
+    @PreDestroy
+    void cancelChecks() {
+        schedule.cancel(false);
+    }
+
+    void maintainPartitions() {
+        createPartitions();
+        dropEmptyPartitions();
+    }
+
+    void createPartitions() {
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+        for (int i = 0; i <= properties.getMonthsAhead(); i++) {
+            createPartition(month.plusMonths(i));
+        }
+    }
+
+    private void createPartition( LocalDate month) {
+        String partition = "task_" + month.format(PARTITION_SUFFIX);
+        String bounds = "FOR VALUES FROM ('" + month + "') TO ('" + month.plusMonths(1) + "')";
+        try {
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition))) {
+                return;
+            }
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION + " WHERE created_at >= ? AND created_at < ?)",
+                    Boolean.class, month, month.plusMonths(1)))) {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF task " + bounds);
+                return;
+            }
+            Integer moved = transactionTemplate.execute(status -> {
+                jdbcTemplate.execute("ALTER TABLE task DETACH PARTITION " + DEFAULT_PARTITION);
+                jdbcTemplate.execute("CREATE TABLE " + partition + " PARTITION OF task " + bounds);
+                int rows = jdbcTemplate.update("""
+                        WITH moved AS (
+                            DELETE FROM %s WHERE created_at >= ? AND created_at < ?
+                            RETURNING id, task_name, description, status, created_at, due_date, version)
+                        INSERT INTO task (id, task_name, description, status, created_at, due_date, version)
+                        SELECT id, task_name, description, status, created_at, due_date, version FROM moved"""
+                        .formatted(DEFAULT_PARTITION), month, month.plusMonths(1));
+                jdbcTemplate.execute("ALTER TABLE task ATTACH PARTITION " + DEFAULT_PARTITION + " DEFAULT");
+                return rows;
+            });
+            log.info("Created the task partition for {} and moved {} tasks into it from the default partition", month, moved);
+        } catch (DataAccessException e) {
+            log.warn("Could not create the task partition for {}: {}", month, e.getMessage());
+        }
+    }
+
+    void dropEmptyPartitions() {
+        LocalDate cutoff = LocalDateTime.now().minus(olderThan).toLocalDate();
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'task'::regclass""", String.class);
+        for (String partition : partitions) {
+            LocalDate month = partitionMonth(partition);
+            if (month != null && !month.plusMonths(1).isAfter(cutoff)) {
+                dropIfEmpty(partition, month);
+            }
+        }
+    }
+
+    /**
+     * Drops a monthly partition if it holds no rows. The partition is locked first, so no row can be written to it
+     * between the check and the drop.
+     */
+    private void dropIfEmpty( String partition, LocalDate month) {
+        try {
+            Boolean dropped = transactionTemplate.execute(status -> {
+                jdbcTemplate.execute("LOCK TABLE " + partition + " IN ACCESS EXCLUSIVE MODE");
+                if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + partition + ")", Boolean.class))) {
+                    return false;
+                }
+                jdbcTemplate.execute("ALTER TABLE task DETACH PARTITION " + partition);
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                return true;
+            });
+            if (Boolean.TRUE.equals(dropped)) {
+                log.info("Dropped the empty task partition for {}", month);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not drop the task partition for {}: {}", month, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the first day of the month a partition covers, or null for the default partition and any table not named
+     * like a monthly partition.
+     */
+    static LocalDate partitionMonth( String partition) {
+        if (!partition.startsWith("task_")) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition.substring("task_".length()), PARTITION_SUFFIX).atDay(1);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -1,17 +1,33 @@
 package com.anderfolg.testpr.service;
 
 import com.anderfolg.testpr.model.DTO.TaskDTO;
+import com.anderfolg.testpr.model.DTO.TaskPage;
+import com.anderfolg.testpr.model.DTO.TaskSearchCriteria;
+import com.anderfolg.testpr.model.DTO.TaskStatusUpdateDTO;
+import com.anderfolg.testpr.model.DTO.TaskView;
+import com.anderfolg.testpr.model.DTO.TaskViewPage;
 import com.anderfolg.testpr.model.Task;
 import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.model.enums.TaskField;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface TaskService {
     Task createTask( TaskDTO taskDTO);
+    List<Task> createTasks( List<TaskDTO> taskDTOs);
     Task getTaskById( Long id);
-    List<Task> getAllTasks();
+    TaskPage getAllTasks( String cursor, Integer size);
     List<Task> getTasksByStatus( Status status);
-    Task updateTask( Long id, TaskDTO taskDTO);
-    Task updateTaskStatus( Long id, Status status);
-    void deleteTask( Long id);
+    TaskViewPage getTaskViews( String cursor, Integer size, Set<TaskField> fields);
+    List<TaskView> getTaskViewsByStatus( Status status, Set<TaskField> fields);
+    Page<Task> searchTasks( TaskSearchCriteria criteria, Pageable pageable);
+    Task updateTask( Long id, TaskDTO taskDTO, Long expectedVersion);
+    Task updateTaskStatus( Long id, Status status, Long expectedVersion);
+    List<Task> updateTaskStatuses( List<TaskStatusUpdateDTO> updates);
+    void deleteTask( Long id, Long expectedVersion);
+    void exportTasks( Consumer<Task> consumer);
 }
@@ -1,28 +1,73 @@
 package com.anderfolg.testpr.service;
 
+import com.anderfolg.testpr.config.CacheConfig;
+import com.anderfolg.testpr.config.MetricsConfig;
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.event.TaskChangedEvent;
+import com.anderfolg.testpr.exception.TaskNotFoundException;
+import com.anderfolg.testpr.exception.TaskValidationException;
+import com.anderfolg.testpr.exception.TaskVersionMismatchException;
+import com.anderfolg.testpr.model.ArchivedTask;
+import com.anderfolg.testpr.model.DTO.TaskCursor;
 import com.anderfolg.testpr.model.DTO.TaskDTO;
+import com.anderfolg.testpr.model.DTO.TaskPage;
+import com.anderfolg.testpr.model.DTO.TaskSearchCriteria;
+import com.anderfolg.testpr.model.DTO.TaskStatusUpdateDTO;
+import com.anderfolg.testpr.model.DTO.TaskView;
+import com.anderfolg.testpr.model.DTO.TaskViewPage;
 import com.anderfolg.testpr.model.Task;
 import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.model.enums.TaskChangeType;
+import com.anderfolg.testpr.model.enums.TaskField;
+import com.anderfolg.testpr.repository.TaskArchiveRepository;
 import com.anderfolg.testpr.repository.TaskRepository;
+import com.anderfolg.testpr.repository.TaskSpecifications;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
  * Provides an implementation of the `TaskService` interface for CRUD operations on tasks.
  * This service class interacts with the `TaskRepository` to perform data persistence
  * and retrieval operations related to tasks.
+ * Lookups by ID and by status are cached; every write evicts or refreshes the entries it affects.
+ * Every public method is timed under the `task.service` metric, and every write publishes a `TaskChangedEvent` per task.
  */
 @Service
+@Timed(value = MetricsConfig.TASK_SERVICE_TIMER, histogram = true, percentiles = {0.5, 0.95, 0.99})
 @RequiredArgsConstructor
 @Slf4j
 public class TaskServiceImpl implements TaskService {
 
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "taskName", "status", "createdAt", "dueDate");
+
     private final TaskRepository taskRepository;
+    private final TaskProperties taskProperties;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskArchiveRepository taskArchiveRepository;
 
     /**
      * Creates a new task entity from the provided TaskDTO and persists it to the database.
@@ -33,42 +78,127 @@ public class TaskServiceImpl implements TaskService {
      * @throws IllegalArgumentException if the task name is empty or blank.
      */
     @Override
+    @CacheEvict(cacheNames = CacheConfig.TASKS_BY_STATUS, key = "T(com.anderfolg.testpr.model.enums.Status).PENDING")
     public Task createTask(TaskDTO taskDTO) {
-        log.info("Creating new task");
-        Task task = Task.builder()
-                .taskName(validateTaskName(taskDTO.taskName()))
-                .description(taskDTO.description())
-                .createdAt(LocalDateTime.now())
-                .dueDate(taskDTO.dueDate())
-                .status(Status.PENDING)
-                .build();
-        return taskRepository.save(task);
+        log.debug("Creating new task");
+        Task createdTask = taskRepository.save(newTask(taskDTO, LocalDateTime.now()));
+        eventPublisher.publishEvent(TaskChangedEvent.created(createdTask));
+        return createdTask;
     }
 
     /**
-     * Retrieves a task entity by its ID from the database. If no task is found with the provided ID,
-     * a `ResourceNotFoundException` is thrown.
+     * Creates new task entities from the provided TaskDTOs and persists them in a single transaction.
+     * Inserts are flushed in chunks of the configured flush size so Hibernate sends them as JDBC batches,
+     * and the persistence context is cleared after each chunk to keep memory bounded.
+     *
+     * @param taskDTOs The data transfer objects containing the details of each task.
+     * @return The created Task entities, in the order of the provided DTOs.
+     * @throws IllegalArgumentException if a task name is empty or blank, or the batch exceeds the configured maximum.
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_BY_STATUS, key = "T(com.anderfolg.testpr.model.enums.Status).PENDING")
+    public List<Task> createTasks(List<TaskDTO> taskDTOs) {
+        log.debug("Creating {} tasks", taskDTOs.size());
+        validateBatchSize(taskDTOs.size());
+
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Task> tasks = taskDTOs.stream()
+                .map(taskDTO -> newTask(taskDTO, createdAt))
+                .toList();
+
+        int flushSize = taskProperties.getBatch().getFlushSize();
+        List<Task> createdTasks = new ArrayList<>(tasks.size());
+        for (int from = 0; from < tasks.size(); from += flushSize) {
+            createdTasks.addAll(taskRepository.saveAll(tasks.subList(from, Math.min(from + flushSize, tasks.size()))));
+            entityManager.flush();
+            entityManager.clear();
+        }
+        createdTasks.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.created(task)));
+        return createdTasks;
+    }
+
+    /**
+     * Retrieves a task entity by its ID from the database. Tasks that are not in the task table are looked up
+     * in the archive of completed tasks. If no task is found with the provided ID, a `TaskNotFoundException` is thrown.
      *
      * @param id The ID of the task to retrieve.
      * @return The retrieved Task entity or throws an exception if not found.
-     * @throws RuntimeException if the task with the provided ID is not found.
+     * @throws TaskNotFoundException if the task with the provided ID is not found.
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.TASKS, key = "#id")
+    @Transactional(readOnly = true)
     public Task getTaskById(Long id) {
-        log.info("Getting task by id: {}", id);
+        log.debug("Getting task by id: {}", id);
         return taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
+                .or(() -> taskArchiveRepository.findById(id).map(ArchivedTask::toTask))
+                .orElseThrow(() -> new TaskNotFoundException(id));
     }
 
     /**
-     * Retrieves a list of all task entities from the database.
+     * Retrieves one page of task entities ordered by creation time and ID, using keyset pagination.
+     * Only `size + 1` rows are read per call, so memory stays bounded regardless of the table size.
+     * The extra row only tells whether another page exists and is not returned.
      *
-     * @return A list of all Task entities.
+     * @param cursor The cursor returned with the previous page, or null to start from the beginning.
+     * @param size   The requested page size, or null for the default. Capped at the configured maximum.
+     * @return The page of Task entities and the cursor of the next page (null on the last page).
+     * @throws IllegalArgumentException if the cursor is malformed or the size is not positive.
      */
     @Override
-    public List<Task> getAllTasks() {
-        log.info("Getting all tasks");
-        return taskRepository.findAll();
+    @Transactional(readOnly = true)
+    public TaskPage getAllTasks(String cursor, Integer size) {
+        log.debug("Getting tasks page after cursor: {}", cursor);
+        int pageSize = resolvePageSize(size);
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+
+        List<Task> tasks;
+        if (cursor == null || cursor.isBlank()) {
+            tasks = taskRepository.findFirstPage(pageRequest);
+        } else {
+            TaskCursor after = TaskCursor.decode(cursor);
+            tasks = taskRepository.findPageAfter(after.createdAt(), after.id(), pageRequest);
+        }
+
+        if (tasks.size() <= pageSize) {
+            return new TaskPage(tasks, null);
+        }
+        List<Task> page = tasks.subList(0, pageSize);
+        return new TaskPage(page, TaskCursor.of(page.get(pageSize - 1)).encode());
+    }
+
+    /**
+     * Retrieves one page of sparse task views in the same keyset order as {@link #getAllTasks(String, Integer)}.
+     * Only the requested columns, plus the creation time and ID needed for the cursor, are selected.
+     *
+     * @param cursor The cursor returned with the previous page, or null to start from the beginning.
+     * @param size   The requested page size, or null for the default. Capped at the configured maximum.
+     * @param fields The task fields to return.
+     * @return The page of views and the cursor of the next page (null on the last page).
+     * @throws IllegalArgumentException if the cursor is malformed or the size is not positive.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskViewPage getTaskViews(String cursor, Integer size, Set<TaskField> fields) {
+        log.debug("Getting task views {} after cursor: {}", fields, cursor);
+        int pageSize = resolvePageSize(size);
+        TaskCursor after = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor);
+        Set<TaskField> selected = EnumSet.copyOf(fields);
+        selected.add(TaskField.ID);
+        selected.add(TaskField.CREATED_AT);
+
+        List<TaskView> views = taskRepository.findViewPage(selected, after, pageSize + 1);
+        List<TaskView> page = views.size() <= pageSize ? views : views.subList(0, pageSize);
+        String nextCursor = null;
+        if (views.size() > pageSize) {
+            TaskView last = page.get(pageSize - 1);
+            nextCursor = new TaskCursor(last.createdAt(), last.id()).encode();
+        }
+        if (selected.size() != fields.size()) {
+            page = page.stream().map(view -> view.only(fields)).toList();
+        }
+        return new TaskViewPage(page, nextCursor);
     }
 
     /**
@@ -78,27 +208,80 @@ public class TaskServiceImpl implements TaskService {
      * @return A list of Task entities with the specified status.
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.TASKS_BY_STATUS, key = "#status")
+    @Transactional(readOnly = true)
     public List<Task> getTasksByStatus(Status status) {
-        log.info("Getting tasks by status: {}", status);
+        log.debug("Getting tasks by status: {}", status);
         return taskRepository.findAllByStatus(status);
     }
 
+    /**
+     * Retrieves sparse views of the tasks with the specified status. Only the requested columns are selected,
+     * and the views are not cached, unlike the full entities returned by {@link #getTasksByStatus(Status)}.
+     *
+     * @param status The status to filter tasks by.
+     * @param fields The task fields to return.
+     * @return The views of the tasks with the specified status.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskView> getTaskViewsByStatus(Status status, Set<TaskField> fields) {
+        log.debug("Getting task views {} by status: {}", fields, status);
+        return taskRepository.findViewsByStatus(fields, status);
+    }
+
+    /**
+     * Searches task entities matching all the provided criteria, one page at a time.
+     * Missing criteria are ignored. The page size is capped at the configured maximum,
+     * and sorting is limited to the indexed task properties.
+     *
+     * @param criteria The status, due-date window, creation window and name prefix to filter by.
+     * @param pageable The requested page, size and sort order.
+     * @return The requested page of matching Task entities.
+     * @throws IllegalArgumentException if the sort refers to an unsupported property.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Task> searchTasks(TaskSearchCriteria criteria, Pageable pageable) {
+        log.debug("Searching tasks by criteria: {}", criteria);
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new TaskValidationException("Cannot sort tasks by: " + order.getProperty());
+            }
+        }
+        int pageSize = Math.min(pageable.getPageSize(), taskProperties.getPagination().getMaxSize());
+        PageRequest pageRequest = PageRequest.of(pageable.getPageNumber(), pageSize, pageable.getSort());
+        return taskRepository.findAll(TaskSpecifications.matching(criteria), pageRequest);
+    }
+
     /**
      * Updates an existing task entity with the provided details (optional) from the TaskDTO object.
      * If a field is not provided in the TaskDTO, the corresponding field in the existing task entity remains unchanged.
-     * The updated task entity is persisted to the database.
+     * The updated task entity is flushed within the transaction, so the returned entity carries its new version.
+     * Archived tasks are read-only and are not found here.
      *
-     * @param id     The ID of the task to update.
-     * @param taskDTO The data transfer object containing task details (optional for update).
+     * @param id              The ID of the task to update.
+     * @param taskDTO         The data transfer object containing task details (optional for update).
+     * @param expectedVersion The version the caller last saw, or null to update whatever the current version is.
      * @return The updated Task entity.
-     * @throws RuntimeException if the task with the provided ID is not found.
+     * @throws TaskNotFoundException if the task with the provided ID is not found.
+     * @throws TaskVersionMismatchException if the task is no longer at the expected version.
      */
     @Override
-    public Task updateTask(Long id, TaskDTO taskDTO) {
-        log.info("Updating task with id: {}", id);
+    @Transactional
+    @Caching(
+            put = @CachePut(cacheNames = CacheConfig.TASKS, key = "#id"),
+            evict = @CacheEvict(cacheNames = CacheConfig.TASKS_BY_STATUS, key = "#result.status"))
+    public Task updateTask(Long id, TaskDTO taskDTO, Long expectedVersion) {
+        log.debug("Updating task with id: {}", id);
 
         // Retrieve the task by ID
-        Task taskToUpdate = getTaskById(id);
+        Task taskToUpdate = taskRepository.findById(id)
+                .orElseThrow(() -> new TaskNotFoundException(id));
+        if (expectedVersion != null && !expectedVersion.equals(taskToUpdate.getVersion())) {
+            throw new TaskVersionMismatchException(id, expectedVersion);
+        }
+        Task previous = taskToUpdate.toBuilder().build();
 
         // Update task fields if provided in the DTO
         if (taskDTO.taskName() != null) {
@@ -112,52 +295,205 @@ public class TaskServiceImpl implements TaskService {
         }
 
         // Save the updated task
-        return taskRepository.save(taskToUpdate);
+        Task updatedTask = taskRepository.saveAndFlush(taskToUpdate);
+        eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.UPDATED, updatedTask, previous));
+        return updatedTask;
     }
 
 
     /**
      * Updates the status of an existing task entity with the provided new status.
-     * Retrieves the task by ID, sets the new status, and persists the updated task to the database.
+     * The update and the read-back of the previous row happen in a single statement, without loading the task first;
+     * the updated task is that row with the new status and version. The task leaves one status list and joins another,
+     * so both are evicted.
      *
-     * @param id     The ID of the task to update the status for.
-     * @param status The new status to set for the task.
+     * @param id              The ID of the task to update the status for.
+     * @param status          The new status to set for the task.
+     * @param expectedVersion The version the caller last saw, or null to update whatever the current version is.
      * @return The updated Task entity.
-     * @throws RuntimeException if the task with the provided ID is not found.
+     * @throws TaskNotFoundException if the task with the provided ID is not found.
+     * @throws TaskVersionMismatchException if the task is no longer at the expected version.
+     */
+    @Override
+    @Caching(
+            put = @CachePut(cacheNames = CacheConfig.TASKS, key = "#id"),
+            evict = @CacheEvict(cacheNames = CacheConfig.TASKS_BY_STATUS, allEntries = true))
+    public Task updateTaskStatus(Long id, Status status, Long expectedVersion) {
+        log.debug("Updating task status with id: {}", id);
+        Task previous = taskRepository.updateStatusByIdReturningPrevious(id, status.name(), expectedVersion)
+                .orElseThrow(() -> notWritten(id, expectedVersion));
+        Task updatedTask = previous.toBuilder()
+                .status(status)
+                .version(previous.getVersion() + 1)
+                .build();
+        eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.STATUS_CHANGED, updatedTask, previous));
+        return updatedTask;
+    }
+
+    /**
+     * Updates the status of several existing task entities in a single transaction.
+     * Tasks are loaded in chunks of the configured flush size and their updates are flushed as JDBC batches.
+     * If the same ID appears more than once, the last status wins.
+     *
+     * @param updates The IDs of the tasks to update, each with its new status.
+     * @return The updated Task entities.
+     * @throws TaskNotFoundException if any of the tasks is not found; no task is updated in that case.
+     * @throws IllegalArgumentException if the batch exceeds the configured maximum, or an update has no ID or no status.
      */
     @Override
-    public Task updateTaskStatus(Long id, Status status) {
-        log.info("Updating task status with id: {}", id);
-        Task taskToUpdate = getTaskById(id);
-        taskToUpdate.setStatus(status);
-        return taskRepository.save(taskToUpdate);
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TASKS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.TASKS_BY_STATUS, allEntries = true)})
+    public List<Task> updateTaskStatuses(List<TaskStatusUpdateDTO> updates) {
+        log.debug("Updating status of {} tasks", updates.size());
+        validateBatchSize(updates.size());
+        for (TaskStatusUpdateDTO update : updates) {
+            if (update.id() == null || update.status() == null) {
+                throw new TaskValidationException("Each status update needs an id and a status");
+            }
+        }
+
+        Map<Long, Status> statusById = new LinkedHashMap<>();
+        updates.forEach(update -> statusById.put(update.id(), update.status()));
+        List<Long> ids = List.copyOf(statusById.keySet());
+
+        int flushSize = taskProperties.getBatch().getFlushSize();
+        List<Task> updatedTasks = new ArrayList<>(ids.size());
+        List<TaskChangedEvent> changes = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += flushSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + flushSize, ids.size()));
+            List<Task> tasks = taskRepository.findAllById(chunk);
+            if (tasks.size() != chunk.size()) {
+                List<Long> foundIds = tasks.stream().map(Task::getId).toList();
+                Long missingId = chunk.stream().filter(id -> !foundIds.contains(id)).findFirst().orElseThrow();
+                throw new TaskNotFoundException(missingId);
+            }
+            for (Task task : tasks) {
+                Task previous = task.toBuilder().build();
+                task.setStatus(statusById.get(task.getId()));
+                changes.add(TaskChangedEvent.of(TaskChangeType.STATUS_CHANGED, task, previous));
+            }
+            entityManager.flush();
+            entityManager.clear();
+            updatedTasks.addAll(tasks);
+        }
+        changes.forEach(eventPublisher::publishEvent);
+        return updatedTasks;
     }
 
     /**
      * Deletes an existing task entity from the database based on the provided ID.
+     * The task is deleted and returned in a single statement; an empty result means it did not exist
+     * or was no longer at the expected version.
      *
-     * @param id The ID of the task to delete.
-     * @throws RuntimeException if the task with the provided ID is not found.
+     * @param id              The ID of the task to delete.
+     * @param expectedVersion The version the caller last saw, or null to delete whatever the current version is.
+     * @throws TaskNotFoundException if the task with the provided ID is not found.
+     * @throws TaskVersionMismatchException if the task is no longer at the expected version.
      */
     @Override
-    public void deleteTask(Long id) {
-        log.info("Deleting task with id: {}", id);
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TASKS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.TASKS_BY_STATUS, allEntries = true)})
+    public void deleteTask(Long id, Long expectedVersion) {
+        log.debug("Deleting task with id: {}", id);
 
-        Task taskToDelete = getTaskById(id);
-        taskRepository.delete(taskToDelete);
+        Task deletedTask = taskRepository.deleteTaskById(id, expectedVersion)
+                .orElseThrow(() -> notWritten(id, expectedVersion));
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(deletedTask));
+    }
+
+    /**
+     * Streams every task entity in the database to the given consumer without materializing the whole table.
+     * Rows are read through a server-side cursor in fetch-size chunks inside a read-only transaction,
+     * and each entity is detached once consumed so the persistence context does not grow with the export.
+     *
+     * @param consumer The consumer receiving each Task entity, in no particular order.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTasks(Consumer<Task> consumer) {
+        log.debug("Exporting all tasks");
+        try (Stream<Task> tasks = taskRepository.streamAll()) {
+            tasks.forEach(task -> {
+                consumer.accept(task);
+                entityManager.detach(task);
+            });
+        }
+    }
+
+    /**
+     * Builds a new pending task entity from the provided TaskDTO.
+     *
+     * @param taskDTO   The data transfer object containing task details.
+     * @param createdAt The creation timestamp to assign.
+     * @return The new, not yet persisted Task entity.
+     * @throws IllegalArgumentException if the task name is empty or blank.
+     */
+    private Task newTask(TaskDTO taskDTO, LocalDateTime createdAt) {
+        return Task.builder()
+                .taskName(validateTaskName(taskDTO.taskName()))
+                .description(taskDTO.description())
+                .createdAt(createdAt)
+                .dueDate(taskDTO.dueDate())
+                .status(Status.PENDING)
+                .build();
+    }
+
+    /**
+     * Ensures a bulk operation does not exceed the configured maximum batch size.
+     *
+     * @param size The number of items in the batch.
+     * @throws IllegalArgumentException if the batch is larger than the configured maximum.
+     */
+    private void validateBatchSize(int size) {
+        int maxSize = taskProperties.getBatch().getMaxSize();
+        if (size > maxSize) {
+            throw new TaskValidationException("Batch size cannot exceed " + maxSize);
+        }
+    }
+
+    /**
+     * Resolves the effective page size, falling back to the configured default and capping it at the configured maximum.
+     *
+     * @param size The requested page size, or null for the default.
+     * @return The page size to use.
+     * @throws IllegalArgumentException if the requested size is not positive.
+     */
+    private int resolvePageSize(Integer size) {
+        TaskProperties.Pagination pagination = taskProperties.getPagination();
+        if (size == null) {
+            return pagination.getDefaultSize();
+        }
+        if (size < 1) {
+            throw new TaskValidationException("Page size must be positive");
+        }
+        return Math.min(size, pagination.getMaxSize());
+    }
+
+    /**
+     * Tells why a conditional single-statement write affected no row. Only called on that failure path,
+     * so the extra lookup costs nothing on successful writes.
+     */
+    private RuntimeException notWritten(Long id, Long expectedVersion) {
+        if (expectedVersion != null && taskRepository.existsById(id)) {
+            return new TaskVersionMismatchException(id, expectedVersion);
+        }
+        return new TaskNotFoundException(id);
     }
 
     /**
      * Validates the task name to ensure it's not empty or blank. An `IllegalArgumentException`
-     * is thrown if the validation fails.
+     * is thrown if the validation fails. Shared with `ReactiveTaskServiceImpl`.
      *
      * @param taskName The task name to be validated.
      * @return The validated task name.
      * @throws IllegalArgumentException if the task name is empty or blank.
      */
-    private String validateTaskName(String taskName) {
+    static String validateTaskName(String taskName) {
         if (taskName == null || taskName.isBlank()) {
-            throw new IllegalArgumentException("Task name cannot be empty");
+            throw new TaskValidationException("Task name cannot be empty");
         }
         return taskName;
     }
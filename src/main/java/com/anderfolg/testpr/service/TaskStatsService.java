@@ -0,0 +1,10 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.model.DTO.TaskStats;
+
+public interface TaskStatsService {
+
+    TaskStats getStats();
+
+    void reconcile();
+}
@@ -0,0 +1,198 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.event.TaskChangedEvent;
+import com.anderfolg.testpr.model.DTO.TaskStats;
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.repository.TaskArchiveRepository;
+import com.anderfolg.testpr.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Keeps task counts per status and the number of overdue tasks in memory, so reading them costs O(1).
+ * Counters are adjusted from committed `TaskChangedEvent`s and periodically rebuilt with `GROUP BY` queries,
+ * which also corrects changes made outside this service (e.g. the reactive API or direct SQL).
+ * A pending task counts as overdue once the minute of its due date has fully passed: future due dates are kept
+ * in per-minute buckets that are folded into the overdue count as time moves on.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskStatsServiceImpl implements TaskStatsService {
+
+    private final TaskRepository taskRepository;
+    private final TaskProperties taskProperties;
+    private final TaskScheduler taskScheduler;
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Object reconcileLock = new Object();
+    private final Map<Status, Long> countsByStatus = new EnumMap<>(Status.class);
+    private final NavigableMap<LocalDateTime, Long> pendingByDueMinute = new TreeMap<>();
+    private long overdue;
+    private LocalDateTime overdueBefore = LocalDateTime.MIN;
+    private LocalDateTime reconciledAt;
+    private ScheduledFuture<?> reconciliation;
+    private List<TaskChangedEvent> changesDuringReconcile;
+
+    @PostConstruct
+    void scheduleReconciliation() {
+        reconciliation = taskScheduler.scheduleWithFixedDelay(
+                this::reconcile, Instant.now(), taskProperties.getStats().getReconcileInterval());
+    }
+
+    @PreDestroy
+    void cancelReconciliation() {
+        reconciliation.cancel(false);
+    }
+
+    @Override
+    public synchronized TaskStats getStats() {
+        advanceOverdue();
+        Map<Status, Long> counts = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            counts.put(status, countsByStatus.getOrDefault(status, 0L));
+        }
+        return new TaskStats(counts, overdue, reconciledAt);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskChanged( TaskChangedEvent event) {
+        advanceOverdue();
+        apply(event);
+        if (changesDuringReconcile != null) {
+            changesDuringReconcile.add(event);
+        }
+    }
+
+    /**
+     * Rebuilds every counter from the database. The queries run in one repeatable-read transaction, so they see a
+     * single snapshot, and the changes that arrive while they run are applied again on top of it. Only a change
+     * committed between the start of a reconciliation and its snapshot is counted twice, until the next one.
+     */
+    @Override
+    public void reconcile() {
+        synchronized (reconcileLock) {
+            LocalDateTime cutoff = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+            synchronized (this) {
+                changesDuringReconcile = new ArrayList<>();
+            }
+            Snapshot snapshot;
+            try {
+                TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+                transaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+                snapshot = transaction.execute(status -> loadSnapshot(cutoff));
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    changesDuringReconcile = null;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                Map<Status, Long> previousCounts = new EnumMap<>(countsByStatus);
+                long previousOverdue = overdue;
+                countsByStatus.clear();
+                countsByStatus.putAll(snapshot.countsByStatus());
+                pendingByDueMinute.clear();
+                pendingByDueMinute.putAll(snapshot.pendingByDueMinute());
+                overdue = snapshot.overdue();
+                overdueBefore = cutoff;
+                changesDuringReconcile.forEach(this::apply);
+                changesDuringReconcile = null;
+                advanceOverdue();
+                if (!previousCounts.equals(countsByStatus) || previousOverdue != overdue) {
+                    log.info("Reconciled task stats: {} overdue {} -> {} overdue {}",
+                            previousCounts, previousOverdue, countsByStatus, overdue);
+                }
+                reconciledAt = LocalDateTime.now();
+            }
+        }
+    }
+
+    private Snapshot loadSnapshot( LocalDateTime cutoff) {
+        Map<Status, Long> counts = new EnumMap<>(Status.class);
+        for (Object[] row : taskRepository.countByStatus()) {
+            counts.put((Status) row[0], (Long) row[1]);
+        }
+        // Archived tasks still exist and keep their status.
+        for (Object[] row : taskArchiveRepository.countByStatus()) {
+            counts.merge((Status) row[0], (Long) row[1], Long::sum);
+        }
+        long overdueCount = taskRepository.countByStatusAndDueDateBefore(Status.PENDING, cutoff);
+        NavigableMap<LocalDateTime, Long> pendingByMinute = new TreeMap<>();
+        for (Object[] row : taskRepository.countByStatusAndDueMinuteFrom(Status.PENDING.name(), cutoff)) {
+            pendingByMinute.put(toLocalDateTime(row[0]), ((Number) row[1]).longValue());
+        }
+        return new Snapshot(counts, overdueCount, pendingByMinute);
+    }
+
+    private void apply( TaskChangedEvent event) {
+        if (event.previous() != null) {
+            count(event.previous(), -1);
+        }
+        if (event.task() != null) {
+            count(event.task(), 1);
+        }
+    }
+
+    private void count( Task task, long delta) {
+        countsByStatus.merge(task.getStatus(), delta, Long::sum);
+        if (task.getStatus() != Status.PENDING || task.getDueDate() == null) {
+            return;
+        }
+        LocalDateTime dueMinute = task.getDueDate().truncatedTo(ChronoUnit.MINUTES);
+        if (dueMinute.isBefore(overdueBefore)) {
+            overdue += delta;
+        } else if (pendingByDueMinute.merge(dueMinute, delta, Long::sum) == 0) {
+            pendingByDueMinute.remove(dueMinute);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime( Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+
+    /**
+     * Folds the buckets of every minute that has fully passed into the overdue count.
+     */
+    private void advanceOverdue() {
+        LocalDateTime currentMinute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        if (!currentMinute.isAfter(overdueBefore)) {
+            return;
+        }
+        Map<LocalDateTime, Long> passed = pendingByDueMinute.headMap(currentMinute, false);
+        for (long count : passed.values()) {
+            overdue += count;
+        }
+        passed.clear();
+        overdueBefore = currentMinute;
+    }
+
+    private record Snapshot(
+            Map<Status, Long> countsByStatus,
+            long overdue,
+            NavigableMap<LocalDateTime, Long> pendingByDueMinute) {
+    }
+}
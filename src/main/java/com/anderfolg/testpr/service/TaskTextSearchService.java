@@ -0,0 +1,10 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.model.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface TaskTextSearchService {
+
+    Page<Task> search( String query, Pageable pageable);
+}
@@ -0,0 +1,53 @@
+-- Tasks are range-partitioned by month of creation. The primary key has to include the partition key.
+-- Monthly partitions are kept ahead of time by TaskPartitionMaintenance; the default partition only catches
+-- rows outside every monthly partition, e.g. when maintenance has not run yet.
+CREATE SEQUENCE task_seq START WITH 1 INCREMENT BY 100;
+
+CREATE TABLE task (
+    id          bigint       NOT NULL,
+    task_name   varchar(255),
+    description varchar(255),
+    status      varchar(255) NOT NULL,
+    created_at  timestamp(6) NOT NULL,
+    due_date    timestamp(6),
+    version     bigint       NOT NULL,
+    search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(task_name, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(description, '')), 'B')) STORED,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE task_default PARTITION OF task DEFAULT;
+
+DO $$
+DECLARE
+    first_day date;
+BEGIN
+    FOR offset_months IN -1..3 LOOP
+        first_day := date_trunc('month', now())::date + make_interval(months => offset_months);
+        EXECUTE format('CREATE TABLE task_%s PARTITION OF task FOR VALUES FROM (%L) TO (%L)',
+                       to_char(first_day, 'YYYY_MM'), first_day, (first_day + interval '1 month')::date);
+    END LOOP;
+END $$;
+
+CREATE INDEX idx_task_created_at_id ON task (created_at, id);
+CREATE INDEX idx_task_status_due_date ON task (status, due_date);
+CREATE INDEX idx_task_status_created_at ON task (status, created_at);
+CREATE INDEX idx_task_due_date ON task (due_date);
+CREATE INDEX idx_task_task_name ON task (task_name);
+CREATE INDEX idx_task_search_vector ON task USING GIN (search_vector);
+
+CREATE TABLE task_due_date_checkpoint (
+    action           varchar(255) NOT NULL PRIMARY KEY,
+    processed_before timestamp(6) NOT NULL,
+    completed_at     timestamp(6) NOT NULL
+);
+
+CREATE TABLE task_idempotency_key (
+    idempotency_key varchar(255) NOT NULL PRIMARY KEY,
+    request_hash    varchar(64)  NOT NULL,
+    response        text         NOT NULL,
+    created_at      timestamp(6) NOT NULL
+);
+
+CREATE INDEX idx_task_idempotency_key_created_at ON task_idempotency_key (created_at);
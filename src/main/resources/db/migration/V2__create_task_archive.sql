@@ -0,0 +1,14 @@
+-- Cold storage for DONE tasks moved out of the partitioned task table by TaskArchiveServiceImpl.
+-- Archived tasks are only read by id, so the table carries no secondary indexes besides the archival time.
+CREATE TABLE task_archive (
+    id          bigint       NOT NULL PRIMARY KEY,
+    task_name   varchar(255),
+    description varchar(255),
+    status      varchar(255) NOT NULL,
+    created_at  timestamp(6) NOT NULL,
+    due_date    timestamp(6),
+    version     bigint       NOT NULL,
+    archived_at timestamp(6) NOT NULL
+);
+
+CREATE INDEX idx_task_archive_archived_at ON task_archive (archived_at);
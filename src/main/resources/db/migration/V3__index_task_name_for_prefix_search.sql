@@ -0,0 +1,4 @@
+-- A plain B-tree on task_name follows the database collation, which cannot serve LIKE 'prefix%' under anything but
+-- the C collation. varchar_pattern_ops compares byte-wise, so the anchored prefix match of the task search can use it.
+DROP INDEX idx_task_task_name;
+CREATE INDEX idx_task_task_name ON task (task_name varchar_pattern_ops);
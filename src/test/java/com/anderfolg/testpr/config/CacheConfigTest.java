@@ -0,0 +1,30 @@
+package com.anderfolg.testpr.config;
+
+import com.anderfolg.testpr.model.enums.Status;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CacheConfigTest {
+
+    @Test
+    public void testTaskCount_List_WeighsOnePerTask() {
+        // Act & Assert
+        assertEquals(3, CacheConfig.taskCount(Status.PENDING, List.of("a", "b", "c")));
+    }
+
+    @Test
+    public void testTaskCount_EmptyList_WeighsOne() {
+        // Act & Assert
+        assertEquals(1, CacheConfig.taskCount(Status.PENDING, Collections.emptyList()));
+    }
+
+    @Test
+    public void testTaskCount_SingleValue_WeighsOne() {
+        // Act & Assert
+        assertEquals(1, CacheConfig.taskCount(1L, new Object()));
+    }
+}
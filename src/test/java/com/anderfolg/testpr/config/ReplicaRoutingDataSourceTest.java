@@ -0,0 +1,81 @@
+package com.anderfolg.testpr.config;
+
+import com.anderfolg.testpr.config.ReplicaRoutingDataSource.Route;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReplicaRoutingDataSourceTest {
+
+    private final ReplicaRoutingDataSource underTest = new ReplicaRoutingDataSource();
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void testRoute_ReadOnlyTransaction_UsesReplica() {
+        // Arrange
+        inTransaction(true);
+
+        // Act & Assert
+        assertEquals(Route.REPLICA, underTest.determineCurrentLookupKey());
+    }
+
+    @Test
+    public void testRoute_ReadWriteTransaction_UsesPrimary() {
+        // Arrange
+        inTransaction(false);
+
+        // Act & Assert
+        assertEquals(Route.PRIMARY, underTest.determineCurrentLookupKey());
+    }
+
+    @Test
+    public void testRoute_NoTransaction_UsesPrimary() {
+        // Act & Assert
+        assertEquals(Route.PRIMARY, underTest.determineCurrentLookupKey());
+    }
+
+    @Test
+    public void testRoute_ReadAfterWriteInSameRequest_UsesPrimary() {
+        // Arrange
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        inTransaction(false);
+        underTest.determineCurrentLookupKey();
+
+        // Act
+        inTransaction(true);
+
+        // Assert
+        assertEquals(Route.PRIMARY, underTest.determineCurrentLookupKey());
+    }
+
+    @Test
+    public void testRoute_ReadAfterWriteInOtherRequest_UsesReplica() {
+        // Arrange
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        inTransaction(false);
+        underTest.determineCurrentLookupKey();
+
+        // Act
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        inTransaction(true);
+
+        // Assert
+        assertEquals(Route.REPLICA, underTest.determineCurrentLookupKey());
+    }
+
+    private static void inTransaction( boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
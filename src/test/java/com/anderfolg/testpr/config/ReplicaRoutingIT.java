@@ -0,0 +1,138 @@
+package com.anderfolg.testpr.config;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.RestClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs real requests against the application with a replica configured, and checks which pool serves each
+ * transaction. Both pools point at the same PostgreSQL; they tell themselves apart by `application_name`.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.hikari.connection-init-sql=SET application_name = 'primary'",
+        "spring.datasource.replica.hikari.connection-init-sql=SET application_name = 'replica'",
+        "tasks.admission.enabled=false"})
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Import(ReplicaRoutingIT.RoutingProbeConfig.class)
+public class ReplicaRoutingIT {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void databaseProperties( DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.replica.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.replica.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.replica.password", POSTGRES::getPassword);
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://%s:%d/%s".formatted(
+                POSTGRES.getHost(), POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT), POSTGRES.getDatabaseName()));
+        registry.add("spring.r2dbc.username", POSTGRES::getUsername);
+        registry.add("spring.r2dbc.password", POSTGRES::getPassword);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    private RestClient restClient;
+
+    @BeforeAll
+    public void setUp() {
+        restClient = RestClient.builder().baseUrl("http://localhost:" + port + "/api").build();
+    }
+
+    @Test
+    public void testRouting_ReadOnlyTransactionsOfARequest_UseReplica() {
+        // Act
+        List<String> pools = probe("/routing-probe/reads");
+
+        // Assert
+        assertEquals(List.of("replica", "replica"), pools);
+    }
+
+    @Test
+    public void testRouting_ReadAfterWriteInSameRequest_UsesPrimary() {
+        // Act
+        List<String> pools = probe("/routing-probe/read-write-read");
+
+        // Assert
+        assertEquals(List.of("replica", "primary", "primary"), pools);
+    }
+
+    @Test
+    public void testRouting_WriteInEarlierRequest_DoesNotPinLaterRequest() {
+        // Arrange
+        probe("/routing-probe/read-write-read");
+
+        // Act
+        List<String> pools = probe("/routing-probe/reads");
+
+        // Assert
+        assertEquals(List.of("replica", "replica"), pools);
+    }
+
+    private List<String> probe( String uri) {
+        return restClient.get().uri(uri).retrieve().body(new ParameterizedTypeReference<>() {});
+    }
+
+    @TestConfiguration
+    @Import(RoutingProbe.class)
+    static class RoutingProbeConfig {
+    }
+
+    /**
+     * Runs several transactions in one request and reports the pool each of them was served by.
+     */
+    @RestController
+    static class RoutingProbe {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        RoutingProbe( JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+            this.readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        @GetMapping("/routing-probe/reads")
+        List<String> reads() {
+            return List.of(pool(readOnly), pool(readOnly));
+        }
+
+        @GetMapping("/routing-probe/read-write-read")
+        List<String> readWriteRead() {
+            return List.of(pool(readOnly), pool(readWrite), pool(readOnly));
+        }
+
+        private String pool( TransactionTemplate transaction) {
+            return transaction.execute(status ->
+                    jdbcTemplate.queryForObject("SELECT current_setting('application_name')", String.class));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.anderfolg.testpr.config;
+
+import org.junit.jupiter.api.Test;
+import org.springdoc.core.properties.SpringDocConfigProperties;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StartupConfigTest {
+
+    @Test
+    public void testLazyNonCriticalBeans_MarksOnlySpringdocBeansLazy() {
+        // Arrange
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("springDocConfigProperties", new RootBeanDefinition(SpringDocConfigProperties.class));
+        beanFactory.registerBeanDefinition("taskProperties", new RootBeanDefinition(TaskProperties.class));
+
+        // Act
+        StartupConfig.lazyNonCriticalBeans().postProcessBeanFactory(beanFactory);
+
+        // Assert
+        assertTrue(beanFactory.getBeanDefinition("springDocConfigProperties").isLazyInit());
+        assertFalse(beanFactory.getBeanDefinition("taskProperties").isLazyInit());
+    }
+
+    @Test
+    public void testIsNonCritical_BeanWithoutClass_IsCritical() {
+        // Act & Assert
+        assertFalse(StartupConfig.isNonCritical(new RootBeanDefinition()));
+    }
+}
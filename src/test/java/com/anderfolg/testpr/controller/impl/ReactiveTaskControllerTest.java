@@ -0,0 +1,120 @@
+package com.anderfolg.testpr.controller.impl;
+
+import com.anderfolg.testpr.exception.ExceptionControllerAdvice;
+import com.anderfolg.testpr.exception.TaskVersionMismatchException;
+import com.anderfolg.testpr.model.DTO.TaskDTO;
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.service.ReactiveTaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveTaskControllerTest {
+
+    @Mock
+    private ReactiveTaskService reactiveTaskService;
+
+    @InjectMocks
+    private ReactiveTaskController underTest;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    public void setUp() {
+        webTestClient = WebTestClient.bindToController(underTest)
+                .controllerAdvice(new ExceptionControllerAdvice())
+                .build();
+    }
+
+    @Test
+    public void testGetTaskById_ReturnsVersionAsETag() {
+        // Arrange
+        when(reactiveTaskService.getTaskById(1L)).thenReturn(Mono.just(task(3L)));
+
+        // Act & Assert
+        webTestClient.get().uri("/tasks/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "W/\"3\"");
+    }
+
+    @Test
+    public void testGetTaskById_MatchingIfNoneMatch_IsNotModified() {
+        // Arrange
+        when(reactiveTaskService.getTaskById(1L)).thenReturn(Mono.just(task(3L)));
+
+        // Act & Assert
+        webTestClient.get().uri("/tasks/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"3\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    public void testUpdateTaskStatus_IfMatch_PassesExpectedVersion() {
+        // Arrange
+        when(reactiveTaskService.updateTaskStatus(1L, Status.DONE, 3L)).thenReturn(Mono.just(task(4L)));
+
+        // Act & Assert
+        webTestClient.patch().uri("/tasks/1/status?status=DONE")
+                .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "W/\"4\"");
+    }
+
+    @Test
+    public void testUpdateTask_WithoutIfMatch_IsUnconditional() {
+        // Arrange
+        when(reactiveTaskService.updateTask(eq(1L), any(TaskDTO.class), isNull())).thenReturn(Mono.just(task(4L)));
+
+        // Act & Assert
+        webTestClient.put().uri("/tasks/1")
+                .bodyValue(new TaskDTO("Renamed", null, null, null))
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    public void testDeleteTask_StaleIfMatch_IsPreconditionFailed() {
+        // Arrange
+        when(reactiveTaskService.deleteTask(1L, 2L)).thenReturn(Mono.error(new TaskVersionMismatchException(1L, 2L)));
+
+        // Act & Assert
+        webTestClient.delete().uri("/tasks/1")
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @Test
+    public void testDeleteTask_MalformedIfMatch_IsPreconditionFailed() {
+        // Act & Assert
+        webTestClient.delete().uri("/tasks/1")
+                .header(HttpHeaders.IF_MATCH, "\"2\", \"3\"")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        verifyNoInteractions(reactiveTaskService);
+    }
+
+    private static Task task( Long version) {
+        return new Task(1L, "Task", "Desc", Status.PENDING, LocalDateTime.now(), null, version);
+    }
+}
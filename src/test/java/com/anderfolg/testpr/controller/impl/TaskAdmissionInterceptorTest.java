@@ -0,0 +1,129 @@
+package com.anderfolg.testpr.controller.impl;
+
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.exception.AdmissionRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskAdmissionInterceptorTest {
+
+    private final TaskProperties taskProperties = new TaskProperties();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private TaskAdmissionInterceptor underTest;
+
+    @BeforeEach
+    public void setUp() {
+        TaskProperties.Admission admission = taskProperties.getAdmission();
+        admission.setLimit(new TaskProperties.Admission.Limit(2, 0.001));
+        admission.getBulkhead().setMaxConcurrent(1);
+        admission.getBulkhead().setEndpoints(List.of("getAllTasks"));
+        underTest = new TaskAdmissionInterceptor(taskProperties, meterRegistry);
+    }
+
+    @Test
+    public void testPreHandle_BucketEmpty_RejectsWithRetryAfter() throws Exception {
+        // Arrange
+        HandlerMethod handler = handler("getTaskById");
+        underTest.preHandle(request("10.0.0.1"), response, handler);
+        underTest.preHandle(request("10.0.0.1"), response, handler);
+
+        // Act
+        AdmissionRejectedException rejection = assertThrows(AdmissionRejectedException.class,
+                () -> underTest.preHandle(request("10.0.0.1"), response, handler));
+
+        // Assert
+        assertTrue(rejection.getRetryAfter().toSeconds() > 0);
+        assertEquals(2, meterRegistry.counter("task.admission", "endpoint", "getTaskById", "outcome", "admitted").count());
+        assertEquals(1, meterRegistry.counter("task.admission", "endpoint", "getTaskById", "outcome", "rate_limited").count());
+    }
+
+    @Test
+    public void testPreHandle_BucketsAreSeparatePerClientAndEndpoint() throws Exception {
+        // Arrange
+        underTest.preHandle(request("10.0.0.1"), response, handler("getTaskById"));
+        underTest.preHandle(request("10.0.0.1"), response, handler("getTaskById"));
+
+        // Act & Assert
+        assertTrue(underTest.preHandle(request("10.0.0.2"), response, handler("getTaskById")));
+        assertTrue(underTest.preHandle(request("10.0.0.1"), response, handler("getTaskStats")));
+    }
+
+    @Test
+    public void testPreHandle_EndpointOverride_AppliesOwnLimit() throws Exception {
+        // Arrange
+        taskProperties.getAdmission().getEndpoints().put("getTaskStats", new TaskProperties.Admission.Limit(1, 0.001));
+        underTest = new TaskAdmissionInterceptor(taskProperties, meterRegistry);
+        underTest.preHandle(request("10.0.0.1"), response, handler("getTaskStats"));
+
+        // Act & Assert (expecting exception)
+        assertThrows(AdmissionRejectedException.class,
+                () -> underTest.preHandle(request("10.0.0.1"), response, handler("getTaskStats")));
+    }
+
+    @Test
+    public void testPreHandle_BulkheadFull_RejectsUntilPermitReleased() throws Exception {
+        // Arrange
+        MockHttpServletRequest running = request("10.0.0.1");
+        underTest.preHandle(running, response, handler("getAllTasks"));
+
+        // Act & Assert (expecting exception)
+        assertThrows(AdmissionRejectedException.class,
+                () -> underTest.preHandle(request("10.0.0.2"), response, handler("getAllTasks")));
+        assertEquals(1, meterRegistry.counter("task.admission", "endpoint", "getAllTasks", "outcome", "bulkhead_full").count());
+
+        // Act
+        underTest.afterCompletion(running, response, handler("getAllTasks"), null);
+
+        // Assert
+        assertTrue(underTest.preHandle(request("10.0.0.2"), response, handler("getAllTasks")));
+    }
+
+    @Test
+    public void testPreHandle_ClientHeaderConfigured_UsesHeaderOverAddress() throws Exception {
+        // Arrange
+        taskProperties.getAdmission().setClientHeader("X-Client-Id");
+        underTest = new TaskAdmissionInterceptor(taskProperties, meterRegistry);
+        MockHttpServletRequest first = request("10.0.0.1");
+        first.addHeader("X-Client-Id", "client-a");
+        MockHttpServletRequest second = request("10.0.0.1");
+        second.addHeader("X-Client-Id", "client-b");
+        underTest.preHandle(first, response, handler("getTaskById"));
+        underTest.preHandle(first, response, handler("getTaskById"));
+
+        // Act & Assert
+        assertTrue(underTest.preHandle(second, response, handler("getTaskById")));
+    }
+
+    private static MockHttpServletRequest request( String remoteAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddress);
+        return request;
+    }
+
+    private static HandlerMethod handler( String name) throws NoSuchMethodException {
+        return new HandlerMethod(new Endpoints(), Endpoints.class.getMethod(name));
+    }
+
+    public static class Endpoints {
+        public void getTaskById() {
+        }
+
+        public void getTaskStats() {
+        }
+
+        public void getAllTasks() {
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.anderfolg.testpr.controller.impl;
+
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.service.TaskChangeFeed;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class TaskChangeStreamsTest {
+
+    private final TaskProperties taskProperties = new TaskProperties();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RecordingEmitter emitter;
+
+    private TaskChangeStreams underTest;
+
+    @BeforeEach
+    public void setUp() {
+        underTest = new TaskChangeStreams(new TaskChangeFeed(taskProperties), taskProperties, mock(TaskScheduler.class),
+                meterRegistry) {
+            @Override
+            SseEmitter newEmitter( long timeoutMillis) {
+                emitter = new RecordingEmitter(timeoutMillis);
+                return emitter;
+            }
+        };
+    }
+
+    @Test
+    public void testStream_Timeout_CompletesEmitterAndRemovesSubscriber() {
+        // Arrange
+        underTest.stream(null);
+        assertEquals(1, meterRegistry.get("task.changes.subscribers").gauge().value());
+
+        // Act
+        emitter.timeoutCallback.run();
+
+        // Assert
+        assertTrue(emitter.completed);
+        assertEquals(0, meterRegistry.get("task.changes.subscribers").gauge().value());
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private Runnable timeoutCallback;
+        private boolean completed;
+
+        private RecordingEmitter( long timeout) {
+            super(timeout);
+        }
+
+        @Override
+        public void onTimeout( Runnable callback) {
+            super.onTimeout(callback);
+            timeoutCallback = callback;
+        }
+
+        @Override
+        public void complete() {
+            super.complete();
+            completed = true;
+        }
+    }
+}
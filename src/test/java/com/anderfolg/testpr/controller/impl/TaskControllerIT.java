@@ -0,0 +1,306 @@
+package com.anderfolg.testpr.controller.impl;
+
+import com.anderfolg.testpr.model.DTO.TaskDTO;
+import com.anderfolg.testpr.model.DTO.TaskStatusUpdateDTO;
+import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.support.EndpointStatementStats;
+import com.anderfolg.testpr.support.SqlStatementCounter;
+import com.anderfolg.testpr.support.TaskSeeder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.client.RestClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the task API against a real PostgreSQL with the Flyway schema and checks how many SQL statements each endpoint
+ * runs per request. Endpoints returning or writing a list must not run more statements for more items, which is how an
+ * N+1 query or an extra SELECT per row shows up. Streaming endpoints (`/changes`, `/export`) are not covered.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        SqlStatementCounter.PROPERTY + "=" + SqlStatementCounter.PROPERTY_VALUE,
+        "tasks.admission.enabled=false",
+        "tasks.archive.enabled=false"})
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Import(TaskControllerIT.StatementStatsConfig.class)
+public class TaskControllerIT {
+
+    private static final int SEEDED_TASKS = 2_000;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void databaseProperties( DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://%s:%d/%s".formatted(
+                POSTGRES.getHost(), POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT), POSTGRES.getDatabaseName()));
+        registry.add("spring.r2dbc.username", POSTGRES::getUsername);
+        registry.add("spring.r2dbc.password", POSTGRES::getPassword);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EndpointStatementStats statementStats;
+
+    private RestClient restClient;
+    private List<Long> ids;
+
+    @BeforeAll
+    public void setUp() {
+        TaskSeeder.seed(jdbcTemplate, SEEDED_TASKS);
+        ids = TaskSeeder.sampleIds(jdbcTemplate, 200);
+        restClient = RestClient.builder()
+                .baseUrl("http://localhost:" + port + "/api")
+                .requestFactory(new JdkClientHttpRequestFactory())
+                .build();
+    }
+
+    @Test
+    public void testGetTaskById_ReadsOneRow() {
+        // Act
+        double statements = statementsPerRequest("GET /tasks/{id}", () -> get("/tasks/" + ids.get(0)));
+
+        // Assert
+        assertEquals(1, statements);
+    }
+
+    @Test
+    public void testGetTaskById_MissingTask_ReadsTaskAndArchive() {
+        // Act
+        double statements = statementsPerRequest("GET /tasks/{id}", () -> assertThrows(RuntimeException.class, () -> get("/tasks/-1")));
+
+        // Assert
+        assertEquals(2, statements);
+    }
+
+    @Test
+    public void testGetTaskById_WeakETag_AnswersIfNoneMatchWithNotModified() {
+        // Arrange
+        String uri = "/tasks/" + ids.get(1);
+        String eTag = restClient.get().uri(uri).retrieve().toBodilessEntity().getHeaders().getETag();
+
+        // Act
+        HttpStatusCode status = restClient.get().uri(uri)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange((request, response) -> response.getStatusCode());
+
+        // Assert
+        assertNotNull(eTag);
+        assertTrue(eTag.startsWith("W/\""));
+        assertEquals(HttpStatus.NOT_MODIFIED, status);
+    }
+
+    @Test
+    public void testGetAllTasks_StatementsDoNotGrowWithPageSize() {
+        // Act
+        double small = statementsPerRequest("GET /tasks", () -> get("/tasks?size=5"));
+        double large = statementsPerRequest("GET /tasks", () -> get("/tasks?size=200"));
+
+        // Assert
+        assertEquals(1, small);
+        assertEquals(small, large);
+    }
+
+    @Test
+    public void testGetTaskViews_StatementsDoNotGrowWithPageSize() {
+        // Act
+        double small = statementsPerRequest("GET /tasks", () -> get("/tasks?size=5&fields=id,taskName,status"));
+        double large = statementsPerRequest("GET /tasks", () -> get("/tasks?size=200&fields=id,taskName,status"));
+
+        // Assert
+        assertEquals(1, small);
+        assertEquals(small, large);
+    }
+
+    @Test
+    public void testGetTasksByStatus_ReadsAtMostOneQuery() {
+        // Act
+        double statements = statementsPerRequest("GET /tasks/filter/status", () -> get("/tasks/filter/status?status=OVERDUE&fields=id,status"));
+
+        // Assert
+        assertTrue(statements <= 1, "statements: " + statements);
+    }
+
+    @Test
+    public void testSearchTasks_StatementsDoNotGrowWithPageSize() {
+        // Act
+        double small = statementsPerRequest("GET /tasks/search", () -> get("/tasks/search?status=PENDING&namePrefix=Task%201&size=5&sort=createdAt"));
+        double large = statementsPerRequest("GET /tasks/search", () -> get("/tasks/search?status=PENDING&namePrefix=Task%201&size=200&sort=createdAt"));
+
+        // Assert
+        assertTrue(small <= 2, "statements: " + small);
+        assertEquals(small, large);
+    }
+
+    @Test
+    public void testSearchTasks_NamePrefix_IsServedByTaskNameIndex() {
+        // Act
+        String plan = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+                StringBuilder lines = new StringBuilder();
+                try (ResultSet rows = statement.executeQuery("EXPLAIN SELECT id FROM task WHERE task_name LIKE 'Task 1%'")) {
+                    while (rows.next()) {
+                        lines.append(rows.getString(1)).append('\n');
+                    }
+                }
+                statement.execute("RESET enable_seqscan");
+                return lines.toString();
+            }
+        });
+
+        // Assert
+        assertTrue(plan.contains("~>=~"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Test
+    public void testSearchTasksByText_StatementsDoNotGrowWithPageSize() {
+        // Act
+        double small = statementsPerRequest("GET /tasks/search/text", () -> get("/tasks/search/text?q=seeded&size=5"));
+        double large = statementsPerRequest("GET /tasks/search/text", () -> get("/tasks/search/text?q=seeded&size=200"));
+
+        // Assert
+        assertTrue(small <= 2, "statements: " + small);
+        assertEquals(small, large);
+    }
+
+    @Test
+    public void testGetTaskStats_RunsNoStatements() {
+        // Act
+        double statements = statementsPerRequest("GET /tasks/stats", () -> get("/tasks/stats"));
+
+        // Assert
+        assertEquals(0, statements);
+    }
+
+    @Test
+    public void testCreateTask_InsertsOneRow() {
+        // Act
+        double statements = statementsPerRequest("POST /tasks",
+                () -> restClient.post().uri("/tasks").contentType(MediaType.APPLICATION_JSON)
+                        .body(new TaskDTO("Created task", null, null, null)).retrieve().toBodilessEntity());
+
+        // Assert
+        assertTrue(statements <= 2, "statements: " + statements);
+    }
+
+    @Test
+    public void testCreateTasks_StatementsDoNotGrowWithBatchSize() {
+        // Act
+        double small = statementsPerRequest("POST /tasks/batch", () -> createTasks(5));
+        double large = statementsPerRequest("POST /tasks/batch", () -> createTasks(50));
+
+        // Assert (one more sequence call is allowed when the batch crosses an allocation block)
+        assertTrue(large <= small + 1, "statements: " + small + " for 5 tasks, " + large + " for 50 tasks");
+    }
+
+    @Test
+    public void testUpdateTask_ReadsAndWritesOneRow() {
+        // Act
+        double statements = statementsPerRequest("PUT /tasks/{id}",
+                () -> restClient.put().uri("/tasks/" + ids.get(1)).contentType(MediaType.APPLICATION_JSON)
+                        .body(new TaskDTO("Renamed task", null, null, null)).retrieve().toBodilessEntity());
+
+        // Assert
+        assertTrue(statements <= 2, "statements: " + statements);
+    }
+
+    @Test
+    public void testUpdateTaskStatus_UpdatesOneRow() {
+        // Act
+        double statements = statementsPerRequest("PATCH /tasks/{id}/status",
+                () -> restClient.patch().uri("/tasks/" + ids.get(2) + "/status?status=DONE").retrieve().toBodilessEntity());
+
+        // Assert
+        assertTrue(statements <= 2, "statements: " + statements);
+    }
+
+    @Test
+    public void testUpdateTaskStatuses_StatementsDoNotGrowWithBatchSize() {
+        // Act
+        double small = statementsPerRequest("PATCH /tasks/status/batch", () -> updateTaskStatuses(ids.subList(10, 15)));
+        double large = statementsPerRequest("PATCH /tasks/status/batch", () -> updateTaskStatuses(ids.subList(20, 70)));
+
+        // Assert
+        assertTrue(small <= 2, "statements: " + small);
+        assertEquals(small, large);
+    }
+
+    @Test
+    public void testDeleteTask_DeletesOneRow() {
+        // Act
+        double statements = statementsPerRequest("DELETE /tasks/{id}",
+                () -> restClient.delete().uri("/tasks/" + ids.get(3)).retrieve().toBodilessEntity());
+
+        // Assert
+        assertEquals(1, statements);
+    }
+
+    private double statementsPerRequest( String endpoint, Runnable request) {
+        statementStats.clear();
+        request.run();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (statementStats.requests(endpoint) == 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        return statementStats.statementsPerRequest(endpoint);
+    }
+
+    private void get( String uri) {
+        restClient.get().uri(uri).retrieve().toBodilessEntity();
+    }
+
+    private void createTasks( int count) {
+        List<TaskDTO> taskDTOs = IntStream.range(0, count).mapToObj(i -> new TaskDTO("Batch task " + i, null, null, null)).toList();
+        restClient.post().uri("/tasks/batch").contentType(MediaType.APPLICATION_JSON).body(taskDTOs).retrieve().toBodilessEntity();
+    }
+
+    private void updateTaskStatuses( List<Long> taskIds) {
+        List<TaskStatusUpdateDTO> updates = taskIds.stream().map(id -> new TaskStatusUpdateDTO(id, Status.OVERDUE)).toList();
+        restClient.patch().uri("/tasks/status/batch").contentType(MediaType.APPLICATION_JSON).body(updates).retrieve().toBodilessEntity();
+    }
+
+    @TestConfiguration
+    static class StatementStatsConfig {
+
+        @Bean
+        EndpointStatementStats endpointStatementStats() {
+            return new EndpointStatementStats();
+        }
+    }
+}
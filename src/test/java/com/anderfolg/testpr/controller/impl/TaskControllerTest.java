@@ -0,0 +1,107 @@
+package com.anderfolg.testpr.controller.impl;
+
+import com.anderfolg.testpr.model.DTO.TaskChangeBatch;
+import com.anderfolg.testpr.service.TaskIdempotencyService;
+import com.anderfolg.testpr.service.TaskIngestionService;
+import com.anderfolg.testpr.service.TaskService;
+import com.anderfolg.testpr.service.TaskStatsService;
+import com.anderfolg.testpr.service.TaskTextSearchService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskControllerTest {
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @Mock
+    private ObjectProvider<TaskIngestionService> taskIngestionService;
+
+    @Mock
+    private TaskChangeStreams taskChangeStreams;
+
+    @Mock
+    private TaskStatsService taskStatsService;
+
+    @Mock
+    private TaskTextSearchService taskTextSearchService;
+
+    @Mock
+    private TaskIdempotencyService taskIdempotencyService;
+
+    @InjectMocks
+    private TaskController underTest;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(underTest).build();
+    }
+
+    @Test
+    public void testChanges_WithAfterAndNoAccept_IsLongPolled() throws Exception {
+        // Arrange
+        DeferredResult<TaskChangeBatch> result = new DeferredResult<>();
+        result.setResult(new TaskChangeBatch(List.of(), 5, false));
+        when(taskChangeStreams.poll(5)).thenReturn(result);
+
+        // Act
+        mockMvc.perform(get("/tasks/changes").param("after", "5"))
+                .andExpect(status().isOk());
+
+        // Assert
+        verify(taskChangeStreams).poll(5);
+        verify(taskChangeStreams, never()).stream(any());
+    }
+
+    @Test
+    public void testChanges_WithoutAfterAndNoAccept_IsStreamed() throws Exception {
+        // Arrange
+        when(taskChangeStreams.stream(null)).thenReturn(new SseEmitter());
+
+        // Act
+        mockMvc.perform(get("/tasks/changes"))
+                .andExpect(status().isOk());
+
+        // Assert
+        verify(taskChangeStreams).stream(null);
+        verify(taskChangeStreams, never()).poll(anyLong());
+    }
+
+    @Test
+    public void testChanges_WithAfterAndEventStreamAccept_IsStreamed() throws Exception {
+        // Arrange
+        when(taskChangeStreams.stream(5L)).thenReturn(new SseEmitter());
+
+        // Act
+        mockMvc.perform(get("/tasks/changes").param("after", "5").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk());
+
+        // Assert
+        verify(taskChangeStreams).stream(5L);
+        verify(taskChangeStreams, never()).poll(anyLong());
+    }
+}
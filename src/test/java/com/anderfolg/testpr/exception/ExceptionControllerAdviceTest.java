@@ -0,0 +1,85 @@
+package com.anderfolg.testpr.exception;
+
+import com.anderfolg.testpr.model.enums.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class ExceptionControllerAdviceTest {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new StubController())
+                .setControllerAdvice(new ExceptionControllerAdvice())
+                .build();
+    }
+
+    @Test
+    public void testHandleException_UnknownEnumValue_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tasks").param("status", "NOT_A_STATUS"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testHandleException_MissingRequestParam_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tasks"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testHandleException_MalformedBody_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/tasks").contentType(MediaType.APPLICATION_JSON).content("{"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testHandleException_UnsupportedAccept_ReturnsNotAcceptable() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tasks").param("status", "DONE").accept(MediaType.APPLICATION_PDF))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    public void testHandleException_UnexpectedException_ReturnsInternalServerError() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tasks/broken"))
+                .andExpect(status().isInternalServerError());
+    }
+
+    @RestController
+    static class StubController {
+
+        @GetMapping(value = "/tasks", produces = MediaType.APPLICATION_JSON_VALUE)
+        Map<String, Status> byStatus( @RequestParam Status status) {
+            return Map.of("status", status);
+        }
+
+        @PostMapping("/tasks")
+        Map<String, Object> create( @RequestBody Map<String, Object> body) {
+            return body;
+        }
+
+        @GetMapping("/tasks/broken")
+        String broken() {
+            throw new IllegalStateException("broken");
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.event.TaskChangedEvent;
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.model.enums.TaskChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class InMemoryTaskTextSearchServiceTest {
+
+    @Mock
+    private TaskService taskService;
+
+    private final TaskProperties taskProperties = new TaskProperties();
+
+    private InMemoryTaskTextSearchService underTest;
+
+    @BeforeEach
+    public void setUp() {
+        underTest = new InMemoryTaskTextSearchService(taskService, taskProperties);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testLoad_IndexesExportedTasks() {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<Task> consumer = invocation.getArgument(0);
+            consumer.accept(task(1L, "Write report", "Quarterly numbers"));
+            consumer.accept(task(2L, "Call supplier", null));
+            return null;
+        }).when(taskService).exportTasks(any(Consumer.class));
+
+        // Act
+        underTest.load();
+
+        // Assert
+        assertEquals(2, underTest.size());
+        assertEquals(List.of(1L), ids(underTest.search("REPORT", PageRequest.of(0, 10))));
+    }
+
+    @Test
+    public void testSearch_RanksNameMatchesAboveDescriptionMatches() {
+        // Arrange
+        underTest.onTaskChanged(TaskChangedEvent.created(task(1L, "Prepare slides", "Slides for the budget review")));
+        underTest.onTaskChanged(TaskChangedEvent.created(task(2L, "Budget review", "Go through the numbers")));
+        underTest.onTaskChanged(TaskChangedEvent.created(task(3L, "Book travel", "Flights and hotel")));
+
+        // Act
+        Page<Task> page = underTest.search("budget review", PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(List.of(2L, 1L), ids(page));
+        assertEquals(2, page.getTotalElements());
+    }
+
+    @Test
+    public void testSearch_RequiresEveryTerm() {
+        // Arrange
+        underTest.onTaskChanged(TaskChangedEvent.created(task(1L, "Budget review", null)));
+        underTest.onTaskChanged(TaskChangedEvent.created(task(2L, "Budget draft", null)));
+
+        // Act & Assert
+        assertEquals(List.of(1L), ids(underTest.search("budget review", PageRequest.of(0, 10))));
+        assertTrue(underTest.search("budget missing", PageRequest.of(0, 10)).isEmpty());
+    }
+
+    @Test
+    public void testSearch_ReturnsRequestedPage() {
+        // Arrange
+        for (long id = 1; id <= 5; id++) {
+            underTest.onTaskChanged(TaskChangedEvent.created(task(id, "Task " + id, "Shared words")));
+        }
+
+        // Act
+        Page<Task> page = underTest.search("shared", PageRequest.of(1, 2));
+
+        // Assert
+        assertEquals(List.of(3L, 4L), ids(page));
+        assertEquals(5, page.getTotalElements());
+    }
+
+    @Test
+    public void testOnTaskChanged_UpdateAndDelete_ReplaceIndexedTerms() {
+        // Arrange
+        Task original = task(1L, "Old title", null);
+        Task renamed = task(1L, "New title", null);
+        underTest.onTaskChanged(TaskChangedEvent.created(original));
+
+        // Act
+        underTest.onTaskChanged(TaskChangedEvent.of(TaskChangeType.UPDATED, renamed, original));
+
+        // Assert
+        assertTrue(underTest.search("old", PageRequest.of(0, 10)).isEmpty());
+        assertEquals(List.of(1L), ids(underTest.search("new", PageRequest.of(0, 10))));
+
+        // Act
+        underTest.onTaskChanged(TaskChangedEvent.deleted(renamed));
+
+        // Assert
+        assertTrue(underTest.search("title", PageRequest.of(0, 10)).isEmpty());
+        assertEquals(0, underTest.size());
+    }
+
+    @Test
+    public void testSearch_BlankQuery_ThrowsException() {
+        // Act & Assert (expecting exception)
+        assertThrows(IllegalArgumentException.class, () -> underTest.search(" ", PageRequest.of(0, 10)));
+    }
+
+    private static List<Long> ids( Page<Task> page) {
+        return page.getContent().stream().map(Task::getId).toList();
+    }
+
+    private static Task task( Long id, String taskName, String description) {
+        return new Task(id, taskName, description, Status.PENDING, LocalDateTime.now(), null, 0L);
+    }
+}
@@ -0,0 +1,195 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.event.TaskChangedEvent;
+import com.anderfolg.testpr.exception.TaskNotFoundException;
+import com.anderfolg.testpr.exception.TaskVersionMismatchException;
+import com.anderfolg.testpr.model.DTO.TaskDTO;
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.model.enums.TaskChangeType;
+import com.anderfolg.testpr.repository.ReactiveTaskRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveTaskServiceImplTest {
+
+    @Mock
+    private ReactiveTaskRepository reactiveTaskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ReactiveTaskServiceImpl underTest;
+
+    @Test
+    public void testCreateTask_validDTO_insertsPendingTask() {
+        // Arrange
+        TaskDTO taskDTO = new TaskDTO("Test Task", "Test Description", null, null);
+        Task insertedTask = new Task(1L, "Test Task", "Test Description", Status.PENDING, LocalDateTime.now(), null, 0L);
+        when(reactiveTaskRepository.insert(eq("Test Task"), eq("Test Description"), eq("PENDING"), any(LocalDateTime.class), isNull()))
+                .thenReturn(Mono.just(insertedTask));
+
+        // Act & Assert
+        StepVerifier.create(underTest.createTask(taskDTO))
+                .expectNext(insertedTask)
+                .verifyComplete();
+        verify(eventPublisher).publishEvent(TaskChangedEvent.created(insertedTask));
+    }
+
+    @Test
+    public void testCreateTask_givenEmptyTaskName_emitsError() {
+        // Arrange
+        TaskDTO taskDTO = new TaskDTO("", "Test Description", null, null);
+
+        // Act & Assert
+        StepVerifier.create(underTest.createTask(taskDTO))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verifyNoInteractions(reactiveTaskRepository, eventPublisher);
+    }
+
+    @Test
+    public void testGetTaskById_NonexistentId_emitsNotFound() {
+        // Arrange
+        when(reactiveTaskRepository.findById(1L)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(underTest.getTaskById(1L))
+                .expectError(TaskNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    public void testGetTasksByStatus_honoursSubscriberDemand() {
+        // Arrange
+        Task first = new Task(1L, "Task 1", "Desc 1", Status.DONE, LocalDateTime.now(), null, 0L);
+        Task second = new Task(2L, "Task 2", "Desc 2", Status.DONE, LocalDateTime.now(), null, 0L);
+        when(reactiveTaskRepository.findAllByStatus("DONE")).thenReturn(Flux.just(first, second));
+
+        // Act & Assert
+        StepVerifier.create(underTest.getTasksByStatus(Status.DONE), 1)
+                .expectNext(first)
+                .thenRequest(1)
+                .expectNext(second)
+                .verifyComplete();
+    }
+
+    @Test
+    public void testUpdateTask_ExistingTask_savesChangedFieldsAndPublishesEvent() {
+        // Arrange
+        Task existingTask = new Task(1L, "Original Name", "Original Desc", Status.PENDING, LocalDateTime.now(), null, 0L);
+        when(reactiveTaskRepository.findById(1L)).thenReturn(Mono.just(existingTask));
+        when(reactiveTaskRepository.save(existingTask)).thenReturn(Mono.just(existingTask));
+
+        // Act & Assert
+        StepVerifier.create(underTest.updateTask(1L, new TaskDTO(null, "Updated Desc", null, null), null))
+                .expectNextMatches(task -> task.getTaskName().equals("Original Name") && task.getDescription().equals("Updated Desc"))
+                .verifyComplete();
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(TaskChangeType.UPDATED, event.getValue().type());
+        assertEquals("Updated Desc", event.getValue().task().getDescription());
+        assertEquals("Original Desc", event.getValue().previous().getDescription());
+    }
+
+    @Test
+    public void testUpdateTask_StaleVersion_emitsVersionMismatchWithoutSaving() {
+        // Arrange
+        Task existingTask = new Task(1L, "Original Name", "Original Desc", Status.PENDING, LocalDateTime.now(), null, 2L);
+        when(reactiveTaskRepository.findById(1L)).thenReturn(Mono.just(existingTask));
+
+        // Act & Assert
+        StepVerifier.create(underTest.updateTask(1L, new TaskDTO(null, "Updated Desc", null, null), 1L))
+                .expectError(TaskVersionMismatchException.class)
+                .verify();
+        verify(reactiveTaskRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    public void testUpdateTaskStatus_ExistingTask_returnsUpdatedTaskAndPublishesEvent() {
+        // Arrange
+        Task previous = new Task(1L, "Task", "Desc", Status.PENDING, LocalDateTime.now(), null, 3L);
+        when(reactiveTaskRepository.updateStatusByIdReturningPrevious(1L, "DONE", 3L)).thenReturn(Mono.just(previous));
+
+        // Act & Assert
+        StepVerifier.create(underTest.updateTaskStatus(1L, Status.DONE, 3L))
+                .expectNextMatches(task -> task.getStatus() == Status.DONE && task.getVersion() == 4L)
+                .verifyComplete();
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(TaskChangeType.STATUS_CHANGED, event.getValue().type());
+        assertEquals(Status.DONE, event.getValue().task().getStatus());
+        assertSame(previous, event.getValue().previous());
+    }
+
+    @Test
+    public void testUpdateTaskStatus_TaskNotFound_emitsNotFound() {
+        // Arrange
+        when(reactiveTaskRepository.updateStatusByIdReturningPrevious(1L, "DONE", null)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(underTest.updateTaskStatus(1L, Status.DONE, null))
+                .expectError(TaskNotFoundException.class)
+                .verify();
+        verify(reactiveTaskRepository, never()).existsById(anyLong());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    public void testUpdateTaskStatus_StaleVersion_emitsVersionMismatch() {
+        // Arrange
+        when(reactiveTaskRepository.updateStatusByIdReturningPrevious(1L, "DONE", 1L)).thenReturn(Mono.empty());
+        when(reactiveTaskRepository.existsById(1L)).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(underTest.updateTaskStatus(1L, Status.DONE, 1L))
+                .expectError(TaskVersionMismatchException.class)
+                .verify();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    public void testDeleteTask_TaskNotFound_emitsNotFound() {
+        // Arrange
+        when(reactiveTaskRepository.deleteTaskById(1L, 1L)).thenReturn(Mono.empty());
+        when(reactiveTaskRepository.existsById(1L)).thenReturn(Mono.just(false));
+
+        // Act & Assert
+        StepVerifier.create(underTest.deleteTask(1L, 1L))
+                .expectError(TaskNotFoundException.class)
+                .verify();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    public void testDeleteTask_ExistingTask_completesAndPublishesEvent() {
+        // Arrange
+        Task deletedTask = new Task(1L, "Task", "Desc", Status.PENDING, LocalDateTime.now(), null, 0L);
+        when(reactiveTaskRepository.deleteTaskById(1L, null)).thenReturn(Mono.just(deletedTask));
+
+        // Act & Assert
+        StepVerifier.create(underTest.deleteTask(1L, null))
+                .verifyComplete();
+        verify(eventPublisher).publishEvent(TaskChangedEvent.deleted(deletedTask));
+    }
+}
@@ -0,0 +1,77 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.config.CacheConfig;
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.repository.TaskArchiveRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskArchiveServiceImplTest {
+
+    @Mock
+    private TaskArchiveRepository taskArchiveRepository;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private final TaskProperties taskProperties = new TaskProperties();
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.TASKS_BY_STATUS);
+
+    private TaskArchiveServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        taskProperties.getArchive().setBatchSize(2);
+        underTest = new TaskArchiveServiceImpl(taskArchiveRepository, taskProperties, taskScheduler, cacheManager,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void testArchiveCompleted_ArchivesChunksUntilShortChunk() {
+        // Arrange
+        cacheManager.getCache(CacheConfig.TASKS_BY_STATUS).put(Status.DONE, List.of());
+        cacheManager.getCache(CacheConfig.TASKS_BY_STATUS).put(Status.PENDING, List.of());
+        when(taskArchiveRepository.archiveChunk(eq("DONE"), any(LocalDateTime.class), eq(2))).thenReturn(2, 2, 1);
+
+        // Act
+        long archived = underTest.archiveCompleted();
+
+        // Assert
+        assertEquals(5, archived);
+        verify(taskArchiveRepository, times(3)).archiveChunk(eq("DONE"), any(LocalDateTime.class), eq(2));
+        assertNull(cacheManager.getCache(CacheConfig.TASKS_BY_STATUS).get(Status.DONE));
+        assertNotNull(cacheManager.getCache(CacheConfig.TASKS_BY_STATUS).get(Status.PENDING));
+    }
+
+    @Test
+    public void testArchiveCompleted_UsesConfiguredAge() {
+        // Arrange
+        LocalDateTime expectedBefore = LocalDateTime.now().minus(taskProperties.getArchive().getOlderThan());
+        when(taskArchiveRepository.archiveChunk(eq("DONE"), any(LocalDateTime.class), eq(2))).thenReturn(0);
+
+        // Act
+        long archived = underTest.archiveCompleted();
+
+        // Assert
+        assertEquals(0, archived);
+        verify(taskArchiveRepository).archiveChunk(eq("DONE"),
+                argThat(before -> !before.isBefore(expectedBefore) && before.isBefore(expectedBefore.plusMinutes(1))), eq(2));
+    }
+}
@@ -0,0 +1,109 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.event.TaskChangedEvent;
+import com.anderfolg.testpr.model.DTO.TaskChange;
+import com.anderfolg.testpr.model.DTO.TaskChangeBatch;
+import com.anderfolg.testpr.model.enums.TaskChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskChangeFeedTest {
+
+    private TaskChangeFeed underTest;
+
+    @BeforeEach
+    public void setUp() {
+        TaskProperties taskProperties = new TaskProperties();
+        taskProperties.getChanges().setBufferSize(3);
+        underTest = new TaskChangeFeed(taskProperties);
+    }
+
+    @Test
+    public void testRead_returnsChangesAfterSequence_inOrder() {
+        // Arrange
+        publishDeletions(3);
+
+        // Act
+        TaskChangeBatch batch = underTest.read(1, 10);
+
+        // Assert
+        assertFalse(batch.reset());
+        assertEquals(3, batch.lastSequence());
+        assertEquals(2, batch.changes().size());
+        assertEquals(2L, batch.changes().get(0).taskId());
+        assertEquals(3L, batch.changes().get(1).sequence());
+    }
+
+    @Test
+    public void testRead_isLimitedToMaxCount() {
+        // Arrange
+        publishDeletions(3);
+
+        // Act
+        TaskChangeBatch batch = underTest.read(0, 2);
+
+        // Assert
+        assertEquals(2, batch.lastSequence());
+        assertEquals(2, batch.changes().size());
+    }
+
+    @Test
+    public void testRead_returnsReset_whenSequenceWasOverwritten() {
+        // Arrange
+        publishDeletions(5);
+
+        // Act
+        TaskChangeBatch overwritten = underTest.read(1, 10);
+        TaskChangeBatch oldestAvailable = underTest.read(2, 10);
+
+        // Assert
+        assertTrue(overwritten.reset());
+        assertTrue(overwritten.changes().isEmpty());
+        assertEquals(5, overwritten.lastSequence());
+        assertFalse(oldestAvailable.reset());
+        assertEquals(3, oldestAvailable.changes().size());
+    }
+
+    @Test
+    public void testRead_returnsReset_whenSequenceIsAheadOfFeed() {
+        // Arrange
+        publishDeletions(1);
+
+        // Act
+        TaskChangeBatch batch = underTest.read(42, 10);
+
+        // Assert
+        assertTrue(batch.reset());
+        assertEquals(1, batch.lastSequence());
+    }
+
+    @Test
+    public void testOnTaskChanged_notifiesListenersUntilRemoved() {
+        // Arrange
+        AtomicInteger notifications = new AtomicInteger();
+        Runnable listener = notifications::incrementAndGet;
+        underTest.addListener(listener);
+
+        // Act
+        publishDeletions(2);
+        underTest.removeListener(listener);
+        publishDeletions(1);
+
+        // Assert
+        assertEquals(2, notifications.get());
+        TaskChange last = underTest.read(2, 10).changes().get(0);
+        assertEquals(TaskChangeType.DELETED, last.type());
+    }
+
+    private void publishDeletions( int count) {
+        for (int i = 0; i < count; i++) {
+            long taskId = underTest.getLastSequence() + 1;
+            underTest.onTaskChanged(new TaskChangedEvent(TaskChangeType.DELETED, taskId, null, null));
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.config.CacheConfig;
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.event.TaskChangedEvent;
+import com.anderfolg.testpr.model.DueDateCheckpoint;
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.model.enums.OverdueAction;
+import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.model.enums.TaskChangeType;
+import com.anderfolg.testpr.repository.DueDateCheckpointRepository;
+import com.anderfolg.testpr.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskDueDateServiceImplTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private DueDateCheckpointRepository checkpointRepository;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ObjectProvider<OverdueTaskHandler> handlerProvider;
+
+    @Mock
+    private OverdueTaskHandler handler;
+
+    private final TaskProperties taskProperties = new TaskProperties();
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.TASKS, CacheConfig.TASKS_BY_STATUS);
+
+    private TaskDueDateServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        taskProperties.getDueDates().setWorkers(1);
+        taskProperties.getDueDates().setChunkSize(2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (underTest != null) {
+            underTest.shutdown();
+        }
+    }
+
+    @Test
+    public void testProcessOverdue_Mark_UpdatesChunksAndPublishesEvents() {
+        // Arrange
+        createService(OverdueAction.MARK);
+        Task first = task(1L);
+        Task second = task(2L);
+        Task third = task(3L);
+        cacheManager.getCache(CacheConfig.TASKS).put(1L, first);
+        when(taskRepository.findIdRangeByStatusAndDueDateBetween(eq(Status.PENDING), eq(TaskDueDateServiceImpl.BEGINNING), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 3L}));
+        when(taskRepository.updateDueChunkStatusReturningPrevious(eq("PENDING"), eq("OVERDUE"), any(), any(), eq(0L), eq(3L), eq(2)))
+                .thenReturn(List.of(second, first));
+        when(taskRepository.updateDueChunkStatusReturningPrevious(eq("PENDING"), eq("OVERDUE"), any(), any(), eq(2L), eq(3L), eq(2)))
+                .thenReturn(List.of(third));
+
+        // Act
+        long processed = underTest.processOverdue();
+
+        // Assert
+        assertEquals(3, processed);
+        ArgumentCaptor<TaskChangedEvent> events = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(events.capture());
+        TaskChangedEvent event = events.getAllValues().get(0);
+        assertEquals(TaskChangeType.STATUS_CHANGED, event.type());
+        assertEquals(Status.OVERDUE, event.task().getStatus());
+        assertEquals(1L, event.task().getVersion());
+        assertEquals(Status.PENDING, event.previous().getStatus());
+        assertNull(cacheManager.getCache(CacheConfig.TASKS).get(1L));
+        verify(handler, times(2)).onOverdue(any());
+        verify(taskRepository, never()).findDueChunk(any(), any(), any(), anyLong(), anyLong(), any());
+        verify(checkpointRepository).save(any(DueDateCheckpoint.class));
+    }
+
+    @Test
+    public void testProcessOverdue_Notify_ScansFromCheckpointWithoutUpdating() {
+        // Arrange
+        createService(OverdueAction.NOTIFY);
+        LocalDateTime processedBefore = LocalDateTime.now().minusMinutes(1);
+        when(checkpointRepository.findById("NOTIFY"))
+                .thenReturn(Optional.of(new DueDateCheckpoint("NOTIFY", processedBefore, processedBefore)));
+        when(taskRepository.findIdRangeByStatusAndDueDateBetween(eq(Status.PENDING), eq(processedBefore), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{5L, 5L}));
+        Task overdueTask = task(5L);
+        when(taskRepository.findDueChunk(eq(Status.PENDING), eq(processedBefore), any(), eq(4L), eq(5L), any(Pageable.class)))
+                .thenReturn(List.of(overdueTask));
+
+        // Act
+        long processed = underTest.processOverdue();
+
+        // Assert
+        assertEquals(1, processed);
+        verify(handler).onOverdue(List.of(overdueTask));
+        verify(taskRepository, never()).updateDueChunkStatusReturningPrevious(any(), any(), any(), any(), anyLong(), anyLong(), anyInt());
+        verifyNoInteractions(eventPublisher);
+        ArgumentCaptor<DueDateCheckpoint> checkpoint = ArgumentCaptor.forClass(DueDateCheckpoint.class);
+        verify(checkpointRepository).save(checkpoint.capture());
+        assertTrue(checkpoint.getValue().getProcessedBefore().isAfter(processedBefore));
+    }
+
+    @Test
+    public void testProcessOverdue_NoOverdueTasks_OnlyCheckpoints() {
+        // Arrange
+        createService(OverdueAction.MARK);
+        when(taskRepository.findIdRangeByStatusAndDueDateBetween(eq(Status.PENDING), any(), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{null, null}));
+
+        // Act
+        long processed = underTest.processOverdue();
+
+        // Assert
+        assertEquals(0, processed);
+        verify(checkpointRepository).save(any(DueDateCheckpoint.class));
+        verifyNoInteractions(handler, eventPublisher);
+    }
+
+    @Test
+    public void testProcessOverdue_PartitionFails_DoesNotAdvanceCheckpoint() {
+        // Arrange
+        createService(OverdueAction.NOTIFY);
+        when(checkpointRepository.findById("NOTIFY")).thenReturn(Optional.empty());
+        when(taskRepository.findIdRangeByStatusAndDueDateBetween(eq(Status.PENDING), eq(TaskDueDateServiceImpl.BEGINNING), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 1L}));
+        when(taskRepository.findDueChunk(any(), any(), any(), anyLong(), anyLong(), any(Pageable.class)))
+                .thenThrow(new IllegalStateException("connection lost"));
+
+        // Act
+        long processed = underTest.processOverdue();
+
+        // Assert
+        assertEquals(0, processed);
+        verify(checkpointRepository, never()).save(any());
+    }
+
+    @Test
+    public void testPartition_SplitsIdRangeIntoContiguousRanges() {
+        // Act
+        List<TaskDueDateServiceImpl.IdRange> ranges = TaskDueDateServiceImpl.partition(1, 10, 3);
+
+        // Assert
+        assertEquals(List.of(
+                new TaskDueDateServiceImpl.IdRange(1, 4),
+                new TaskDueDateServiceImpl.IdRange(5, 8),
+                new TaskDueDateServiceImpl.IdRange(9, 10)), ranges);
+        assertEquals(List.of(new TaskDueDateServiceImpl.IdRange(7, 7)), TaskDueDateServiceImpl.partition(7, 7, 4));
+    }
+
+    private void createService( OverdueAction action) {
+        taskProperties.getDueDates().setAction(action);
+        when(handlerProvider.orderedStream()).thenReturn(Stream.of(handler));
+        doReturn(mock(ScheduledFuture.class)).when(taskScheduler)
+                .scheduleWithFixedDelay(any(Runnable.class), any(Instant.class), any(Duration.class));
+        underTest = new TaskDueDateServiceImpl(taskRepository, checkpointRepository, taskProperties, taskScheduler,
+                eventPublisher, cacheManager, handlerProvider, new SimpleMeterRegistry());
+        underTest.schedulePasses();
+    }
+
+    private static Task task( Long id) {
+        return new Task(id, "Task " + id, "Description", Status.PENDING, LocalDateTime.now().minusDays(2),
+                LocalDateTime.now().minusDays(1), 0L);
+    }
+}
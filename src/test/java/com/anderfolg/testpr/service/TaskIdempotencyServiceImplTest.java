@@ -0,0 +1,153 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.exception.IdempotencyKeyReusedException;
+import com.anderfolg.testpr.model.DTO.TaskDTO;
+import com.anderfolg.testpr.model.IdempotencyRecord;
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskIdempotencyServiceImplTest {
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final TaskProperties taskProperties = new TaskProperties();
+
+    @Test
+    public void testCreateTask_Retry_ReturnsOriginalTaskWithoutInsert() {
+        // Arrange
+        TaskIdempotencyServiceImpl underTest = createService();
+        TaskDTO taskDTO = new TaskDTO("Task 1", "Description 1", null, null);
+        when(idempotencyRecordRepository.findById("key-1")).thenReturn(Optional.empty());
+        when(taskService.createTask(taskDTO)).thenReturn(task(1L));
+
+        // Act
+        Task created = underTest.createTask("key-1", taskDTO);
+        Task retried = underTest.createTask("key-1", taskDTO);
+
+        // Assert
+        assertSame(created, retried);
+        verify(taskService, times(1)).createTask(taskDTO);
+        verify(idempotencyRecordRepository, times(1)).saveAndFlush(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    public void testCreateTasks_RecordedByEarlierInstance_ReturnsRecordedTasks() {
+        // Arrange
+        List<TaskDTO> taskDTOs = List.of(new TaskDTO("Task 1", null, null, null), new TaskDTO("Task 2", null, null, null));
+        when(idempotencyRecordRepository.findById("key-1")).thenReturn(Optional.empty());
+        when(taskService.createTasks(taskDTOs)).thenReturn(List.of(task(1L), task(2L)));
+        createService().createTasks("key-1", taskDTOs);
+        ArgumentCaptor<IdempotencyRecord> record = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyRecordRepository).saveAndFlush(record.capture());
+        when(idempotencyRecordRepository.findById("key-1")).thenReturn(Optional.of(record.getValue()));
+
+        // Act
+        List<Task> tasks = createService().createTasks("key-1", taskDTOs);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), tasks.stream().map(Task::getId).toList());
+        assertEquals("Task 2", tasks.get(1).getTaskName());
+        verify(taskService, times(1)).createTasks(taskDTOs);
+    }
+
+    @Test
+    public void testCreateTask_KeyRecordedConcurrently_ReturnsWinningTask() throws Exception {
+        // Arrange
+        TaskIdempotencyServiceImpl underTest = createService();
+        TaskDTO taskDTO = new TaskDTO("Task 1", null, null, null);
+        IdempotencyRecord winner = new IdempotencyRecord("key-1", underTest.hash(taskDTO),
+                objectMapper.writeValueAsString(List.of(task(7L))), LocalDateTime.now());
+        when(idempotencyRecordRepository.findById("key-1")).thenReturn(Optional.empty(), Optional.of(winner));
+        when(taskService.createTask(taskDTO)).thenReturn(task(8L));
+        when(idempotencyRecordRepository.saveAndFlush(any(IdempotencyRecord.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // Act
+        Task task = underTest.createTask("key-1", taskDTO);
+
+        // Assert
+        assertEquals(7L, task.getId());
+    }
+
+    @Test
+    public void testCreateTask_KeyReusedWithDifferentRequest_ThrowsException() {
+        // Arrange
+        TaskIdempotencyServiceImpl underTest = createService();
+        TaskDTO taskDTO = new TaskDTO("Task 1", null, null, null);
+        when(idempotencyRecordRepository.findById("key-1")).thenReturn(Optional.empty());
+        when(taskService.createTask(taskDTO)).thenReturn(task(1L));
+        underTest.createTask("key-1", taskDTO);
+
+        // Act & Assert (expecting exception)
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> underTest.createTask("key-1", new TaskDTO("Task 2", null, null, null)));
+        verify(taskService, times(1)).createTask(any());
+    }
+
+    @Test
+    public void testCreateTask_ExpiredRecord_CreatesTaskAgain() throws Exception {
+        // Arrange
+        TaskIdempotencyServiceImpl underTest = createService();
+        TaskDTO taskDTO = new TaskDTO("Task 1", null, null, null);
+        IdempotencyRecord expired = new IdempotencyRecord("key-1", underTest.hash(taskDTO),
+                objectMapper.writeValueAsString(List.of(task(1L))), LocalDateTime.now().minusDays(2));
+        when(idempotencyRecordRepository.findById("key-1")).thenReturn(Optional.of(expired));
+        when(taskService.createTask(taskDTO)).thenReturn(task(2L));
+
+        // Act
+        Task task = underTest.createTask("key-1", taskDTO);
+
+        // Assert
+        assertEquals(2L, task.getId());
+        verify(idempotencyRecordRepository).delete(expired);
+    }
+
+    @Test
+    public void testCreateTask_BlankKey_ThrowsException() {
+        // Arrange
+        TaskIdempotencyServiceImpl underTest = createService();
+
+        // Act & Assert (expecting exception)
+        assertThrows(IllegalArgumentException.class, () -> underTest.createTask(" ", new TaskDTO("Task 1", null, null, null)));
+        verifyNoInteractions(taskService, idempotencyRecordRepository);
+    }
+
+    private TaskIdempotencyServiceImpl createService() {
+        return new TaskIdempotencyServiceImpl(taskService, idempotencyRecordRepository, TransactionOperations.withoutTransaction(),
+                objectMapper, taskScheduler, taskProperties, new SimpleMeterRegistry());
+    }
+
+    private static Task task( Long id) {
+        return new Task(id, "Task " + id, null, Status.PENDING, LocalDateTime.now(), null, 0L);
+    }
+}
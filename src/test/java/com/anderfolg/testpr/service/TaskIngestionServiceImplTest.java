@@ -0,0 +1,201 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.exception.IngestionRejectedException;
+import com.anderfolg.testpr.model.DTO.TaskDTO;
+import com.anderfolg.testpr.model.DTO.TaskIngestionReceipt;
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.model.enums.IngestionState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskIngestionServiceImplTest {
+
+    @Mock
+    private TaskService taskService;
+
+    private final TaskProperties taskProperties = new TaskProperties();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TaskIngestionServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        taskProperties.getIngestion().setQueueCapacity(2);
+        taskProperties.getIngestion().setBatchSize(10);
+        taskProperties.getIngestion().setMaxDelay(Duration.ofSeconds(10));
+        taskProperties.getIngestion().setRetryBackoff(Duration.ofMillis(1));
+        underTest = new TaskIngestionServiceImpl(taskService, taskProperties, meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (underTest.isRunning()) {
+            underTest.stop();
+        }
+    }
+
+    @Test
+    public void testSubmit_throwsIllegalArgumentException_whenTaskNameIsBlank() {
+
+        // Arrange
+        underTest.start();
+        TaskDTO taskDTO = taskDTO(" ");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> underTest.submit(taskDTO));
+    }
+
+    @Test
+    public void testSubmit_throwsIngestionRejectedException_whenNotStarted() {
+
+        // Act & Assert
+        assertThrows(IngestionRejectedException.class, () -> underTest.submit(taskDTO("Task")));
+    }
+
+    @Test
+    public void testSubmit_throwsIngestionRejectedException_whenQueueIsFull() {
+
+        // Arrange
+        // Block the writer inside its first batch so the queue can fill up.
+        taskProperties.getIngestion().setBatchSize(1);
+        taskProperties.getIngestion().setMaxDelay(Duration.ZERO);
+        underTest = new TaskIngestionServiceImpl(taskService, taskProperties, new SimpleMeterRegistry());
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskService.createTasks(anyList())).thenAnswer(invocation -> {
+            release.await(2, TimeUnit.SECONDS);
+            return List.of(task(1L));
+        });
+        underTest.start();
+        underTest.submit(taskDTO("Task 1"));
+        verify(taskService, timeout(1_000)).createTasks(anyList());
+
+        underTest.submit(taskDTO("Task 2"));
+        underTest.submit(taskDTO("Task 3"));
+
+        // Act & Assert
+        assertThrows(IngestionRejectedException.class, () -> underTest.submit(taskDTO("Task 4")));
+        release.countDown();
+    }
+
+    @Test
+    public void testStop_writesQueuedTasksInOneBatchAndRecordsTheirIds() {
+
+        // Arrange
+        when(taskService.createTasks(anyList())).thenAnswer(invocation -> {
+            List<TaskDTO> taskDTOs = invocation.getArgument(0);
+            return IntStream.range(0, taskDTOs.size()).mapToObj(i -> task(100L + i)).toList();
+        });
+        underTest.start();
+        TaskIngestionReceipt first = underTest.submit(taskDTO("Task 1"));
+        TaskIngestionReceipt second = underTest.submit(taskDTO("Task 2"));
+
+        // Act
+        underTest.stop();
+
+        // Assert
+        assertEquals(IngestionState.QUEUED, first.state());
+        verify(taskService, times(1)).createTasks(anyList());
+        assertEquals(new TaskIngestionReceipt(first.trackingId(), IngestionState.CREATED, 100L),
+                underTest.getReceipt(first.trackingId()).orElseThrow());
+        assertEquals(new TaskIngestionReceipt(second.trackingId(), IngestionState.CREATED, 101L),
+                underTest.getReceipt(second.trackingId()).orElseThrow());
+    }
+
+    @Test
+    public void testStop_marksReceiptsFailed_whenBatchCannotBeWritten() {
+
+        // Arrange
+        when(taskService.createTasks(anyList())).thenThrow(new DataAccessResourceFailureException("database unavailable"));
+        when(taskService.createTask(any())).thenThrow(new DataAccessResourceFailureException("database unavailable"));
+        underTest.start();
+        TaskIngestionReceipt receipt = underTest.submit(taskDTO("Task"));
+
+        // Act
+        underTest.stop();
+
+        // Assert
+        assertEquals(IngestionState.FAILED, underTest.getReceipt(receipt.trackingId()).orElseThrow().state());
+        verify(taskService, times(3)).createTasks(anyList());
+        verify(taskService, times(3)).createTask(any());
+        assertEquals(1, meterRegistry.counter("task.ingestion.failed").count());
+    }
+
+    @Test
+    public void testStop_retriesTransientFailure_andWritesBatch() {
+
+        // Arrange
+        when(taskService.createTasks(anyList()))
+                .thenThrow(new TransientDataAccessResourceException("connection reset"))
+                .thenReturn(List.of(task(100L)));
+        underTest.start();
+        TaskIngestionReceipt receipt = underTest.submit(taskDTO("Task"));
+
+        // Act
+        underTest.stop();
+
+        // Assert
+        assertEquals(new TaskIngestionReceipt(receipt.trackingId(), IngestionState.CREATED, 100L),
+                underTest.getReceipt(receipt.trackingId()).orElseThrow());
+        verify(taskService, times(2)).createTasks(anyList());
+        verify(taskService, never()).createTask(any());
+        assertEquals(1, meterRegistry.counter("task.ingestion.retried").count());
+        assertEquals(0, meterRegistry.counter("task.ingestion.failed").count());
+    }
+
+    @Test
+    public void testStop_writesTasksOneByOne_whenBatchIsRejected() {
+
+        // Arrange
+        TaskDTO good = taskDTO("Good");
+        TaskDTO bad = taskDTO("Bad");
+        when(taskService.createTasks(anyList())).thenThrow(new DataIntegrityViolationException("value too long"));
+        when(taskService.createTask(good)).thenReturn(task(100L));
+        when(taskService.createTask(bad)).thenThrow(new DataIntegrityViolationException("value too long"));
+        underTest.start();
+        TaskIngestionReceipt goodReceipt = underTest.submit(good);
+        TaskIngestionReceipt badReceipt = underTest.submit(bad);
+
+        // Act
+        underTest.stop();
+
+        // Assert
+        assertEquals(new TaskIngestionReceipt(goodReceipt.trackingId(), IngestionState.CREATED, 100L),
+                underTest.getReceipt(goodReceipt.trackingId()).orElseThrow());
+        assertEquals(IngestionState.FAILED, underTest.getReceipt(badReceipt.trackingId()).orElseThrow().state());
+        verify(taskService, times(1)).createTasks(anyList());
+        assertEquals(1, meterRegistry.counter("task.ingestion.failed").count());
+    }
+
+    private static TaskDTO taskDTO( String taskName) {
+        return new TaskDTO(taskName, "Description", LocalDateTime.now(), LocalDateTime.now().plusDays(1));
+    }
+
+    private static Task task( Long id) {
+        Task task = new Task();
+        task.setId(id);
+        return task;
+    }
+}
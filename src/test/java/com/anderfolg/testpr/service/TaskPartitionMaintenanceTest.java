@@ -0,0 +1,125 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.config.TaskProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskPartitionMaintenanceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private final TaskProperties taskProperties = new TaskProperties();
+
+    private TaskPartitionMaintenance underTest;
+
+    @BeforeEach
+    public void setUp() {
+        taskProperties.getPartitions().setMonthsAhead(0);
+        underTest = new TaskPartitionMaintenance(jdbcTemplate, transactionManager, taskProperties, taskScheduler);
+    }
+
+    @Test
+    public void testCreatePartitions_ExistingPartition_IsLeftAlone() {
+        // Arrange
+        when(jdbcTemplate.queryForObject(startsWith("SELECT to_regclass"), eq(Boolean.class), anyString())).thenReturn(true);
+
+        // Act
+        underTest.createPartitions();
+
+        // Assert
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    public void testCreatePartitions_DefaultPartitionEmpty_CreatesPartition() {
+        // Arrange
+        when(jdbcTemplate.queryForObject(startsWith("SELECT to_regclass"), eq(Boolean.class), anyString())).thenReturn(false);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT EXISTS"), eq(Boolean.class), any(), any())).thenReturn(false);
+
+        // Act
+        underTest.createPartitions();
+
+        // Assert
+        verify(jdbcTemplate).execute(startsWith("CREATE TABLE IF NOT EXISTS task_"));
+        verify(jdbcTemplate, never()).execute(startsWith("ALTER TABLE"));
+    }
+
+    @Test
+    public void testCreatePartitions_DefaultPartitionHoldsRows_MovesThemIntoNewPartition() {
+        // Arrange
+        when(jdbcTemplate.queryForObject(startsWith("SELECT to_regclass"), eq(Boolean.class), anyString())).thenReturn(false);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT EXISTS"), eq(Boolean.class), any(), any())).thenReturn(true);
+        when(jdbcTemplate.update(startsWith("WITH moved AS"), any(LocalDate.class), any(LocalDate.class))).thenReturn(3);
+
+        // Act
+        underTest.createPartitions();
+
+        // Assert
+        InOrder inOrder = inOrder(jdbcTemplate, transactionManager);
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE task DETACH PARTITION task_default");
+        inOrder.verify(jdbcTemplate).execute(startsWith("CREATE TABLE task_"));
+        inOrder.verify(jdbcTemplate).update(startsWith("WITH moved AS"), any(LocalDate.class), any(LocalDate.class));
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE task ATTACH PARTITION task_default DEFAULT");
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    public void testDropEmptyPartitions_DropsOnlyEmptyPartitionsPastTheArchiveAge() {
+        // Arrange
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        String old = partition(currentMonth.minusMonths(3));
+        String oldWithRows = partition(currentMonth.minusMonths(4));
+        String current = partition(currentMonth);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenReturn(List.of("task_default", old, oldWithRows, current));
+        when(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + old + ")", Boolean.class)).thenReturn(false);
+        when(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + oldWithRows + ")", Boolean.class)).thenReturn(true);
+
+        // Act
+        underTest.dropEmptyPartitions();
+
+        // Assert
+        verify(jdbcTemplate).execute("DROP TABLE " + old);
+        verify(jdbcTemplate, never()).execute("DROP TABLE " + oldWithRows);
+        verify(jdbcTemplate, never()).execute("LOCK TABLE " + current + " IN ACCESS EXCLUSIVE MODE");
+        verify(jdbcTemplate, never()).execute("LOCK TABLE task_default IN ACCESS EXCLUSIVE MODE");
+    }
+
+    @Test
+    public void testPartitionMonth_ParsesMonthlyPartitionsOnly() {
+        // Act & Assert
+        assertEquals(LocalDate.of(2024, 3, 1), TaskPartitionMaintenance.partitionMonth("task_2024_03"));
+        assertNull(TaskPartitionMaintenance.partitionMonth("task_default"));
+        assertNull(TaskPartitionMaintenance.partitionMonth("task_archive"));
+    }
+
+    private static String partition( LocalDate month) {
+        return "task_" + month.format(DateTimeFormatter.ofPattern("yyyy_MM"));
+    }
+}
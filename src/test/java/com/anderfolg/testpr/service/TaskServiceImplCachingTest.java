@@ -0,0 +1,237 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.config.CacheConfig;
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.exception.TaskNotFoundException;
+import com.anderfolg.testpr.model.DTO.TaskDTO;
+import com.anderfolg.testpr.model.DTO.TaskStatusUpdateDTO;
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.repository.TaskArchiveRepository;
+import com.anderfolg.testpr.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the task service behind the real caching proxy and Caffeine caches, so the eviction rules on each write
+ * are checked against what a later read actually returns.
+ */
+@SpringJUnitConfig
+public class TaskServiceImplCachingTest {
+
+    @Configuration
+    @Import(CacheConfig.class)
+    static class Config {
+
+        @Bean
+        TaskProperties taskProperties() {
+            return new TaskProperties();
+        }
+
+        @Bean
+        CacheManager cacheManager( CacheManagerCustomizer<CaffeineCacheManager> taskCacheManagerCustomizer) {
+            CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+            taskCacheManagerCustomizer.customize(cacheManager);
+            return cacheManager;
+        }
+
+        @Bean
+        TaskServiceImpl taskService( TaskRepository taskRepository, TaskProperties taskProperties, EntityManager entityManager,
+                                     ApplicationEventPublisher eventPublisher, TaskArchiveRepository taskArchiveRepository) {
+            return new TaskServiceImpl(taskRepository, taskProperties, entityManager, eventPublisher, taskArchiveRepository);
+        }
+    }
+
+    @MockBean
+    private TaskRepository taskRepository;
+
+    @MockBean
+    private TaskArchiveRepository taskArchiveRepository;
+
+    @MockBean
+    private EntityManager entityManager;
+
+    @Autowired
+    private TaskService underTest;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    public void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    public void testGetTaskById_SecondCall_IsServedFromCache() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task(1L, "Task", Status.PENDING, 0L)));
+
+        // Act
+        underTest.getTaskById(1L);
+        Task result = underTest.getTaskById(1L);
+
+        // Assert
+        assertEquals("Task", result.getTaskName());
+        verify(taskRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    public void testUpdateTask_ThenGetTaskById_ReturnsUpdatedTask() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(
+                Optional.of(task(1L, "Old name", Status.PENDING, 0L)),
+                Optional.of(task(1L, "Old name", Status.PENDING, 0L)));
+        when(taskRepository.saveAndFlush(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        underTest.getTaskById(1L);
+
+        // Act
+        underTest.updateTask(1L, new TaskDTO("New name", null, null, null), null);
+        Task result = underTest.getTaskById(1L);
+
+        // Assert
+        assertEquals("New name", result.getTaskName());
+        verify(taskRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    public void testUpdateTask_ThenGetTasksByStatus_ReloadsTheTasksStatus() {
+        // Arrange
+        when(taskRepository.findAllByStatus(Status.PENDING)).thenReturn(
+                List.of(task(1L, "Old name", Status.PENDING, 0L)),
+                List.of(task(1L, "New name", Status.PENDING, 1L)));
+        when(taskRepository.findAllByStatus(Status.DONE)).thenReturn(List.of());
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task(1L, "Old name", Status.PENDING, 0L)));
+        when(taskRepository.saveAndFlush(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        underTest.getTasksByStatus(Status.PENDING);
+        underTest.getTasksByStatus(Status.DONE);
+
+        // Act
+        underTest.updateTask(1L, new TaskDTO("New name", null, null, null), null);
+        List<Task> pending = underTest.getTasksByStatus(Status.PENDING);
+        underTest.getTasksByStatus(Status.DONE);
+
+        // Assert
+        assertEquals("New name", pending.get(0).getTaskName());
+        verify(taskRepository, times(2)).findAllByStatus(Status.PENDING);
+        verify(taskRepository, times(1)).findAllByStatus(Status.DONE);
+    }
+
+    @Test
+    public void testUpdateTaskStatus_ThenReads_ReturnFreshTaskAndBothStatusLists() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task(1L, "Task", Status.PENDING, 0L)));
+        when(taskRepository.findAllByStatus(Status.PENDING)).thenReturn(
+                List.of(task(1L, "Task", Status.PENDING, 0L)),
+                List.of());
+        when(taskRepository.findAllByStatus(Status.DONE)).thenReturn(
+                List.of(),
+                List.of(task(1L, "Task", Status.DONE, 1L)));
+        when(taskRepository.updateStatusByIdReturningPrevious(eq(1L), eq("DONE"), isNull()))
+                .thenReturn(Optional.of(task(1L, "Task", Status.PENDING, 0L)));
+        underTest.getTaskById(1L);
+        underTest.getTasksByStatus(Status.PENDING);
+        underTest.getTasksByStatus(Status.DONE);
+
+        // Act
+        underTest.updateTaskStatus(1L, Status.DONE, null);
+        Task task = underTest.getTaskById(1L);
+        List<Task> pending = underTest.getTasksByStatus(Status.PENDING);
+        List<Task> done = underTest.getTasksByStatus(Status.DONE);
+
+        // Assert
+        assertEquals(Status.DONE, task.getStatus());
+        assertEquals(1L, task.getVersion());
+        assertTrue(pending.isEmpty());
+        assertEquals(1, done.size());
+        verify(taskRepository, times(1)).findById(1L);
+        verify(taskRepository, times(2)).findAllByStatus(Status.PENDING);
+        verify(taskRepository, times(2)).findAllByStatus(Status.DONE);
+    }
+
+    @Test
+    public void testUpdateTaskStatuses_ThenReads_ReturnFreshTaskAndBothStatusLists() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(
+                Optional.of(task(1L, "Task", Status.PENDING, 0L)),
+                Optional.of(task(1L, "Task", Status.DONE, 1L)));
+        when(taskRepository.findAllByStatus(Status.PENDING)).thenReturn(
+                List.of(task(1L, "Task", Status.PENDING, 0L)),
+                List.of());
+        when(taskRepository.findAllByStatus(Status.DONE)).thenReturn(
+                List.of(),
+                List.of(task(1L, "Task", Status.DONE, 1L)));
+        when(taskRepository.findAllById(anyList())).thenReturn(List.of(task(1L, "Task", Status.PENDING, 0L)));
+        underTest.getTaskById(1L);
+        underTest.getTasksByStatus(Status.PENDING);
+        underTest.getTasksByStatus(Status.DONE);
+
+        // Act
+        underTest.updateTaskStatuses(List.of(new TaskStatusUpdateDTO(1L, Status.DONE)));
+        Task task = underTest.getTaskById(1L);
+        List<Task> pending = underTest.getTasksByStatus(Status.PENDING);
+        List<Task> done = underTest.getTasksByStatus(Status.DONE);
+
+        // Assert
+        assertEquals(Status.DONE, task.getStatus());
+        assertTrue(pending.isEmpty());
+        assertEquals(1, done.size());
+        verify(taskRepository, times(2)).findById(1L);
+        verify(taskRepository, times(2)).findAllByStatus(Status.PENDING);
+        verify(taskRepository, times(2)).findAllByStatus(Status.DONE);
+    }
+
+    @Test
+    public void testDeleteTask_ThenReads_NoLongerReturnTheTask() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(
+                Optional.of(task(1L, "Task", Status.PENDING, 0L)),
+                Optional.empty());
+        when(taskArchiveRepository.findById(1L)).thenReturn(Optional.empty());
+        when(taskRepository.findAllByStatus(Status.PENDING)).thenReturn(
+                List.of(task(1L, "Task", Status.PENDING, 0L)),
+                List.of());
+        when(taskRepository.deleteTaskById(1L, null)).thenReturn(Optional.of(task(1L, "Task", Status.PENDING, 0L)));
+        underTest.getTaskById(1L);
+        underTest.getTasksByStatus(Status.PENDING);
+
+        // Act
+        underTest.deleteTask(1L, null);
+
+        // Assert
+        assertThrows(TaskNotFoundException.class, () -> underTest.getTaskById(1L));
+        assertTrue(underTest.getTasksByStatus(Status.PENDING).isEmpty());
+        verify(taskRepository, times(2)).findById(1L);
+        verify(taskRepository, times(2)).findAllByStatus(Status.PENDING);
+    }
+
+    private static Task task( Long id, String taskName, Status status, Long version) {
+        return Task.builder()
+                .id(id)
+                .taskName(taskName)
+                .status(status)
+                .version(version)
+                .build();
+    }
+}
@@ -1,23 +1,52 @@
 package com.anderfolg.testpr.service;
 
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.event.TaskChangedEvent;
+import com.anderfolg.testpr.exception.TaskNotFoundException;
+import com.anderfolg.testpr.exception.TaskValidationException;
+import com.anderfolg.testpr.exception.TaskVersionMismatchException;
+import com.anderfolg.testpr.model.ArchivedTask;
+import com.anderfolg.testpr.model.DTO.TaskCursor;
 import com.anderfolg.testpr.model.DTO.TaskDTO;
+import com.anderfolg.testpr.model.DTO.TaskPage;
+import com.anderfolg.testpr.model.DTO.TaskSearchCriteria;
+import com.anderfolg.testpr.model.DTO.TaskStatusUpdateDTO;
+import com.anderfolg.testpr.model.DTO.TaskView;
+import com.anderfolg.testpr.model.DTO.TaskViewPage;
 import com.anderfolg.testpr.model.Task;
 import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.model.enums.TaskChangeType;
+import com.anderfolg.testpr.model.enums.TaskField;
+import com.anderfolg.testpr.repository.TaskArchiveRepository;
 import com.anderfolg.testpr.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +55,18 @@ public class TaskServiceImplTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskArchiveRepository taskArchiveRepository;
+
+    @Spy
+    private TaskProperties taskProperties = new TaskProperties();
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskServiceImpl underTest;
 
@@ -67,11 +108,44 @@ public class TaskServiceImplTest {
         assertThrows(IllegalArgumentException.class, () -> underTest.createTask(taskDTO));
     }
 
+    @Test
+    public void testCreateTasks_validDTOs_savesInFlushSizedChunks() {
+        // Arrange
+        taskProperties.getBatch().setFlushSize(2);
+        List<TaskDTO> taskDTOs = List.of(
+                new TaskDTO("Task 1", null, null, null),
+                new TaskDTO("Task 2", null, null, null),
+                new TaskDTO("Task 3", null, null, null));
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<Task> createdTasks = underTest.createTasks(taskDTOs);
+
+        // Assert
+        assertEquals(List.of("Task 1", "Task 2", "Task 3"), createdTasks.stream().map(Task::getTaskName).toList());
+        assertTrue(createdTasks.stream().allMatch(task -> task.getStatus() == Status.PENDING));
+        verify(taskRepository, times(2)).saveAll(anyList());
+        verify(entityManager, times(2)).flush();
+    }
+
+    @Test
+    public void testCreateTasks_batchAboveMaximum_ThrowsException() {
+        // Arrange
+        taskProperties.getBatch().setMaxSize(1);
+        List<TaskDTO> taskDTOs = List.of(
+                new TaskDTO("Task 1", null, null, null),
+                new TaskDTO("Task 2", null, null, null));
+
+        // Act & Assert (expecting exception)
+        assertThrows(IllegalArgumentException.class, () -> underTest.createTasks(taskDTOs));
+        verifyNoInteractions(taskRepository);
+    }
+
     @Test
     public void testGetTaskById_ExistingId_Success() {
         // Arrange
         Long id = 1L;
-        Task expectedTask = new Task(id, "Test Task", "This is a test task", Status.PENDING,LocalDateTime.now(), LocalDateTime.now().plusDays(1));
+        Task expectedTask = new Task(id, "Test Task", "This is a test task", Status.PENDING,LocalDateTime.now(), LocalDateTime.now().plusDays(1), 0L);
         when(taskRepository.findById(id)).thenReturn(Optional.of(expectedTask));
 
         // Act
@@ -82,6 +156,26 @@ public class TaskServiceImplTest {
         assertEquals(expectedTask, retrievedTask);
     }
 
+    @Test
+    public void testGetTaskById_ArchivedTask_ReturnsArchivedCopy() {
+        // Arrange
+        Long id = 1L;
+        LocalDateTime createdAt = LocalDateTime.now().minusMonths(2);
+        ArchivedTask archivedTask = new ArchivedTask(id, "Old Task", "Done long ago", Status.DONE, createdAt, null, 4L, LocalDateTime.now());
+        when(taskRepository.findById(id)).thenReturn(Optional.empty());
+        when(taskArchiveRepository.findById(id)).thenReturn(Optional.of(archivedTask));
+
+        // Act
+        Task retrievedTask = underTest.getTaskById(id);
+
+        // Assert
+        assertEquals(id, retrievedTask.getId());
+        assertEquals("Old Task", retrievedTask.getTaskName());
+        assertEquals(Status.DONE, retrievedTask.getStatus());
+        assertEquals(createdAt, retrievedTask.getCreatedAt());
+        assertEquals(4L, retrievedTask.getVersion());
+    }
+
     @Test
     public void testGetTaskById_NonexistentId_ThrowsException() {
         // Arrange
@@ -92,34 +186,114 @@ public class TaskServiceImplTest {
         assertThrows(RuntimeException.class, () -> underTest.getTaskById(id));
     }
 
+    @Test
+    public void testGetTaskById_NonexistentId_ThrowsNotFoundWithoutStackTrace() {
+        // Arrange
+        Long id = 1L;
+        when(taskRepository.findById(id)).thenReturn(Optional.empty());
+
+        // Act
+        TaskNotFoundException exception = assertThrows(TaskNotFoundException.class, () -> underTest.getTaskById(id));
+
+        // Assert
+        assertEquals("Task not found with id: 1", exception.getMessage());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    public void testCreateTask_givenBlankTaskName_thenThrowsValidationWithoutStackTrace() {
+        // Arrange
+        TaskDTO taskDTO = new TaskDTO(" ", null, null, null);
+
+        // Act
+        TaskValidationException exception = assertThrows(TaskValidationException.class, () -> underTest.createTask(taskDTO));
+
+        // Assert
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
     @Test
     public void testGetAllTasks_TasksExist_ReturnsAllTasks() {
         // Arrange
         List<Task> expectedTasks = Arrays.asList(
-                new Task(1L, "Task 1", "Desc 1", Status.PENDING, LocalDateTime.now(), LocalDateTime.now().plusDays(1)),
-                new Task(2L, "Task 2", "Desc 2", Status.DONE ,LocalDateTime.now(), LocalDateTime.now().plusDays(1))
+                new Task(1L, "Task 1", "Desc 1", Status.PENDING, LocalDateTime.now(), LocalDateTime.now().plusDays(1), 0L),
+                new Task(2L, "Task 2", "Desc 2", Status.DONE ,LocalDateTime.now(), LocalDateTime.now().plusDays(1), 0L)
         );
-        when(taskRepository.findAll()).thenReturn(expectedTasks);
+        when(taskRepository.findFirstPage(PageRequest.of(0, 51))).thenReturn(expectedTasks);
 
         // Act
-        List<Task> actualTasks = underTest.getAllTasks();
+        TaskPage actualPage = underTest.getAllTasks(null, null);
 
         // Assert
-        assertEquals(expectedTasks, actualTasks);
-        verify(taskRepository).findAll();
+        assertEquals(expectedTasks, actualPage.tasks());
+        assertNull(actualPage.nextCursor());
+        verify(taskRepository).findFirstPage(PageRequest.of(0, 51));
     }
 
     @Test
     public void testGetAllTasks_NoTasksExist_ReturnsEmptyList() {
         // Arrange
-        when(taskRepository.findAll()).thenReturn(Collections.emptyList());
+        when(taskRepository.findFirstPage(any())).thenReturn(Collections.emptyList());
 
         // Act
-        List<Task> actualTasks = underTest.getAllTasks();
+        TaskPage actualPage = underTest.getAllTasks(null, null);
 
         // Assert
-        assertTrue(actualTasks.isEmpty());
-        verify(taskRepository).findAll();
+        assertTrue(actualPage.tasks().isEmpty());
+        assertNull(actualPage.nextCursor());
+        verify(taskRepository).findFirstPage(any());
+    }
+
+    @Test
+    public void testGetAllTasks_MoreTasksThanPageSize_ReturnsCursorOfLastTask() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Task> fetchedTasks = Arrays.asList(
+                new Task(1L, "Task 1", "Desc 1", Status.PENDING, createdAt, null, 0L),
+                new Task(2L, "Task 2", "Desc 2", Status.PENDING, createdAt, null, 0L),
+                new Task(3L, "Task 3", "Desc 3", Status.PENDING, createdAt, null, 0L)
+        );
+        when(taskRepository.findFirstPage(PageRequest.of(0, 3))).thenReturn(fetchedTasks);
+
+        // Act
+        TaskPage actualPage = underTest.getAllTasks(null, 2);
+
+        // Assert
+        assertEquals(fetchedTasks.subList(0, 2), actualPage.tasks());
+        assertEquals(new TaskCursor(createdAt, 2L), TaskCursor.decode(actualPage.nextCursor()));
+    }
+
+    @Test
+    public void testGetAllTasks_GivenCursor_ReadsPageAfterCursor() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.now();
+        String cursor = new TaskCursor(createdAt, 7L).encode();
+        when(taskRepository.findPageAfter(createdAt, 7L, PageRequest.of(0, 11))).thenReturn(Collections.emptyList());
+
+        // Act
+        TaskPage actualPage = underTest.getAllTasks(cursor, 10);
+
+        // Assert
+        assertTrue(actualPage.tasks().isEmpty());
+        verify(taskRepository).findPageAfter(createdAt, 7L, PageRequest.of(0, 11));
+    }
+
+    @Test
+    public void testGetAllTasks_SizeAboveMaximum_IsCapped() {
+        // Arrange
+        when(taskRepository.findFirstPage(any())).thenReturn(Collections.emptyList());
+
+        // Act
+        underTest.getAllTasks(null, 100_000);
+
+        // Assert
+        verify(taskRepository).findFirstPage(PageRequest.of(0, 501));
+    }
+
+    @Test
+    public void testGetAllTasks_InvalidCursor_ThrowsException() {
+        // Act & Assert (expecting exception)
+        assertThrows(IllegalArgumentException.class, () -> underTest.getAllTasks("not-a-cursor", null));
     }
 
     @Test
@@ -127,8 +301,8 @@ public class TaskServiceImplTest {
         // Arrange
         Status status = Status.DONE;
         List<Task> expectedTasks = Arrays.asList(
-                new Task(1L, "Task 1", "Desc 1", Status.DONE, LocalDateTime.now(), LocalDateTime.now().plusDays(1)),
-                new Task(2L, "Task 2", "Desc 2", Status.DONE, LocalDateTime.now(), LocalDateTime.now().plusDays(1))
+                new Task(1L, "Task 1", "Desc 1", Status.DONE, LocalDateTime.now(), LocalDateTime.now().plusDays(1), 0L),
+                new Task(2L, "Task 2", "Desc 2", Status.DONE, LocalDateTime.now(), LocalDateTime.now().plusDays(1), 0L)
         );
         when(taskRepository.findAllByStatus(status)).thenReturn(expectedTasks);
 
@@ -154,11 +328,99 @@ public class TaskServiceImplTest {
         verify(taskRepository).findAllByStatus(status);
     }
 
+    @Test
+    public void testGetTaskViews_MoreViewsThanPageSize_SelectsCursorColumnsAndStripsThem() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.now();
+        Set<TaskField> fields = EnumSet.of(TaskField.TASK_NAME, TaskField.STATUS);
+        List<TaskView> fetchedViews = List.of(
+                new TaskView(1L, "Task 1", null, Status.PENDING, createdAt, null, null),
+                new TaskView(2L, "Task 2", null, Status.PENDING, createdAt, null, null),
+                new TaskView(3L, "Task 3", null, Status.PENDING, createdAt, null, null));
+        when(taskRepository.findViewPage(EnumSet.of(TaskField.ID, TaskField.TASK_NAME, TaskField.STATUS, TaskField.CREATED_AT), null, 3))
+                .thenReturn(fetchedViews);
+
+        // Act
+        TaskViewPage actualPage = underTest.getTaskViews(null, 2, fields);
+
+        // Assert
+        assertEquals(List.of(
+                new TaskView(null, "Task 1", null, Status.PENDING, null, null, null),
+                new TaskView(null, "Task 2", null, Status.PENDING, null, null, null)), actualPage.tasks());
+        assertEquals(new TaskCursor(createdAt, 2L), TaskCursor.decode(actualPage.nextCursor()));
+    }
+
+    @Test
+    public void testGetTaskViews_GivenCursor_ReadsViewsAfterCursor() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.now();
+        Set<TaskField> fields = EnumSet.of(TaskField.ID, TaskField.CREATED_AT);
+        when(taskRepository.findViewPage(fields, new TaskCursor(createdAt, 7L), 11)).thenReturn(Collections.emptyList());
+
+        // Act
+        TaskViewPage actualPage = underTest.getTaskViews(new TaskCursor(createdAt, 7L).encode(), 10, fields);
+
+        // Assert
+        assertTrue(actualPage.tasks().isEmpty());
+        assertNull(actualPage.nextCursor());
+    }
+
+    @Test
+    public void testGetTaskViewsByStatus_ReadsOnlyRequestedFields() {
+        // Arrange
+        Set<TaskField> fields = EnumSet.of(TaskField.ID, TaskField.TASK_NAME);
+        List<TaskView> expectedViews = List.of(new TaskView(1L, "Task 1", null, null, null, null, null));
+        when(taskRepository.findViewsByStatus(fields, Status.DONE)).thenReturn(expectedViews);
+
+        // Act
+        List<TaskView> actualViews = underTest.getTaskViewsByStatus(Status.DONE, fields);
+
+        // Assert
+        assertEquals(expectedViews, actualViews);
+        verify(taskRepository, never()).findAllByStatus(any());
+    }
+
+    @Test
+    public void testTaskFieldParse_KnownFields_RejectsUnknownOrEmpty() {
+        // Act & Assert
+        assertEquals(EnumSet.of(TaskField.ID, TaskField.STATUS), TaskField.parse("id, status"));
+        assertThrows(IllegalArgumentException.class, () -> TaskField.parse("id,secret"));
+        assertThrows(IllegalArgumentException.class, () -> TaskField.parse(" , "));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSearchTasks_PageSizeAboveMaximum_IsCapped() {
+        // Arrange
+        TaskSearchCriteria criteria = new TaskSearchCriteria(Status.PENDING, null, LocalDateTime.now(), null, null, "Re");
+        Sort sort = Sort.by("dueDate");
+        PageRequest expectedRequest = PageRequest.of(2, 500, sort);
+        Page<Task> expectedPage = new PageImpl<>(Collections.emptyList(), expectedRequest, 0);
+        when(taskRepository.findAll(any(Specification.class), eq(expectedRequest))).thenReturn(expectedPage);
+
+        // Act
+        Page<Task> actualPage = underTest.searchTasks(criteria, PageRequest.of(2, 10_000, sort));
+
+        // Assert
+        assertEquals(expectedPage, actualPage);
+    }
+
+    @Test
+    public void testSearchTasks_UnsupportedSortProperty_ThrowsException() {
+        // Arrange
+        TaskSearchCriteria criteria = new TaskSearchCriteria(null, null, null, null, null, null);
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by("description"));
+
+        // Act & Assert (expecting exception)
+        assertThrows(IllegalArgumentException.class, () -> underTest.searchTasks(criteria, pageRequest));
+        verifyNoInteractions(taskRepository);
+    }
+
     @Test
     public void testUpdateTask_ExistingTaskAndValidDTO_UpdatesTaskSuccessfully() {
         // Arrange
         Long id = 1L;
-        Task existingTask = new Task(id, "Original Name", "Original Desc", Status.PENDING, LocalDateTime.now(), LocalDateTime.now().plusDays(1));
+        Task existingTask = new Task(id, "Original Name", "Original Desc", Status.PENDING, LocalDateTime.now(), LocalDateTime.now().plusDays(1), 0L);
         TaskDTO updateDTO = new TaskDTO("Updated Name", "Updated Desc", LocalDateTime.now(), LocalDateTime.now().plusDays(2));
         Task expectedTask = Task.builder()
                 .id(id)
@@ -170,10 +432,10 @@ public class TaskServiceImplTest {
                 .build();
 
         when(taskRepository.findById(id)).thenReturn(Optional.of(existingTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(expectedTask);
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(expectedTask);
 
         // Act
-        Task updatedTask = underTest.updateTask(id, updateDTO);
+        Task updatedTask = underTest.updateTask(id, updateDTO, null);
 
         // Assert
         assertEquals(expectedTask, updatedTask);
@@ -188,7 +450,172 @@ public class TaskServiceImplTest {
         when(taskRepository.findById(id)).thenReturn(Optional.empty());
 
         // Act & Assert (expecting exception)
-        assertThrows(RuntimeException.class, () -> underTest.updateTask(id, updateDTO));
+        assertThrows(RuntimeException.class, () -> underTest.updateTask(id, updateDTO, null));
+    }
+
+    @Test
+    public void testUpdateTask_StaleExpectedVersion_ThrowsVersionMismatch() {
+        // Arrange
+        Long id = 1L;
+        Task existingTask = new Task(id, "Original Name", "Original Desc", Status.PENDING, LocalDateTime.now(), null, 3L);
+        TaskDTO updateDTO = new TaskDTO("Updated Name", null, null, null);
+        when(taskRepository.findById(id)).thenReturn(Optional.of(existingTask));
+
+        // Act & Assert (expecting exception)
+        assertThrows(TaskVersionMismatchException.class, () -> underTest.updateTask(id, updateDTO, 2L));
+        verify(taskRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    public void testUpdateTaskStatus_ExistingTask_UpdatesInSingleStatement() {
+        // Arrange
+        Long id = 1L;
+        Task previousTask = new Task(id, "Task 1", "Desc 1", Status.PENDING, LocalDateTime.now(), null, 0L);
+        when(taskRepository.updateStatusByIdReturningPrevious(id, "DONE", null)).thenReturn(Optional.of(previousTask));
+
+        // Act
+        Task actualTask = underTest.updateTaskStatus(id, Status.DONE, null);
+
+        // Assert
+        assertEquals(id, actualTask.getId());
+        assertEquals(Status.DONE, actualTask.getStatus());
+        assertEquals(1L, actualTask.getVersion());
+        assertEquals(previousTask.getTaskName(), actualTask.getTaskName());
+        assertEquals(Status.PENDING, previousTask.getStatus());
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(new TaskChangedEvent(TaskChangeType.STATUS_CHANGED, id, actualTask, previousTask));
+    }
+
+    @Test
+    public void testUpdateTaskStatus_TaskNotFound_ThrowsException() {
+        // Arrange
+        Long id = 1L;
+        when(taskRepository.updateStatusByIdReturningPrevious(id, "DONE", null)).thenReturn(Optional.empty());
+
+        // Act & Assert (expecting exception)
+        assertThrows(TaskNotFoundException.class, () -> underTest.updateTaskStatus(id, Status.DONE, null));
+    }
+
+    @Test
+    public void testUpdateTaskStatus_StaleExpectedVersion_ThrowsVersionMismatch() {
+        // Arrange
+        Long id = 1L;
+        when(taskRepository.updateStatusByIdReturningPrevious(id, "DONE", 2L)).thenReturn(Optional.empty());
+        when(taskRepository.existsById(id)).thenReturn(true);
+
+        // Act & Assert (expecting exception)
+        assertThrows(TaskVersionMismatchException.class, () -> underTest.updateTaskStatus(id, Status.DONE, 2L));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    public void testDeleteTask_ExistingTask_DeletesInSingleStatement() {
+        // Arrange
+        Long id = 1L;
+        Task deletedTask = new Task(id, "Task 1", "Desc 1", Status.PENDING, LocalDateTime.now(), null, 0L);
+        when(taskRepository.deleteTaskById(id, null)).thenReturn(Optional.of(deletedTask));
+
+        // Act
+        underTest.deleteTask(id, null);
+
+        // Assert
+        verify(taskRepository).deleteTaskById(id, null);
+        verify(taskRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(new TaskChangedEvent(TaskChangeType.DELETED, id, null, deletedTask));
+    }
+
+    @Test
+    public void testDeleteTask_TaskNotFound_ThrowsException() {
+        // Arrange
+        Long id = 1L;
+        when(taskRepository.deleteTaskById(id, null)).thenReturn(Optional.empty());
+
+        // Act & Assert (expecting exception)
+        assertThrows(TaskNotFoundException.class, () -> underTest.deleteTask(id, null));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    public void testDeleteTask_ExpectedVersionOfMissingTask_ThrowsNotFound() {
+        // Arrange
+        Long id = 1L;
+        when(taskRepository.deleteTaskById(id, 2L)).thenReturn(Optional.empty());
+        when(taskRepository.existsById(id)).thenReturn(false);
+
+        // Act & Assert (expecting exception)
+        assertThrows(TaskNotFoundException.class, () -> underTest.deleteTask(id, 2L));
+    }
+
+    @Test
+    public void testUpdateTaskStatuses_ExistingTasks_UpdatesEveryStatus() {
+        // Arrange
+        Task first = new Task(1L, "Task 1", "Desc 1", Status.PENDING, LocalDateTime.now(), null, 0L);
+        Task second = new Task(2L, "Task 2", "Desc 2", Status.PENDING, LocalDateTime.now(), null, 0L);
+        when(taskRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(first, second));
+
+        // Act
+        List<Task> updatedTasks = underTest.updateTaskStatuses(List.of(
+                new TaskStatusUpdateDTO(1L, Status.DONE),
+                new TaskStatusUpdateDTO(2L, Status.DONE)));
+
+        // Assert
+        assertEquals(List.of(first, second), updatedTasks);
+        assertTrue(updatedTasks.stream().allMatch(task -> task.getStatus() == Status.DONE));
+        verify(entityManager).flush();
+    }
+
+    @Test
+    public void testUpdateTaskStatuses_TaskNotFound_ThrowsException() {
+        // Arrange
+        Task first = new Task(1L, "Task 1", "Desc 1", Status.PENDING, LocalDateTime.now(), null, 0L);
+        when(taskRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(first));
+        List<TaskStatusUpdateDTO> updates = List.of(
+                new TaskStatusUpdateDTO(1L, Status.DONE),
+                new TaskStatusUpdateDTO(2L, Status.DONE));
+
+        // Act & Assert (expecting exception)
+        assertThrows(TaskNotFoundException.class, () -> underTest.updateTaskStatuses(updates));
+        verify(entityManager, never()).flush();
+    }
+
+    @Test
+    public void testUpdateTaskStatuses_NullStatus_ThrowsValidationException() {
+        // Arrange
+        List<TaskStatusUpdateDTO> updates = List.of(
+                new TaskStatusUpdateDTO(1L, Status.DONE),
+                new TaskStatusUpdateDTO(2L, null));
+
+        // Act & Assert (expecting exception)
+        assertThrows(TaskValidationException.class, () -> underTest.updateTaskStatuses(updates));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    public void testUpdateTaskStatuses_NullId_ThrowsValidationException() {
+        // Arrange
+        List<TaskStatusUpdateDTO> updates = List.of(new TaskStatusUpdateDTO(null, Status.DONE));
+
+        // Act & Assert (expecting exception)
+        assertThrows(TaskValidationException.class, () -> underTest.updateTaskStatuses(updates));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    public void testExportTasks_TasksExist_StreamsAndDetachesEachTask() {
+        // Arrange
+        Task first = new Task(1L, "Task 1", "Desc 1", Status.PENDING, LocalDateTime.now(), null, 0L);
+        Task second = new Task(2L, "Task 2", "Desc 2", Status.DONE, LocalDateTime.now(), null, 0L);
+        when(taskRepository.streamAll()).thenReturn(Stream.of(first, second));
+        List<Task> exportedTasks = new ArrayList<>();
+
+        // Act
+        underTest.exportTasks(exportedTasks::add);
+
+        // Assert
+        assertEquals(List.of(first, second), exportedTasks);
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
     }
 
 }
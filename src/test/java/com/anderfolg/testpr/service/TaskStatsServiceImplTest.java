@@ -0,0 +1,171 @@
+package com.anderfolg.testpr.service;
+
+import com.anderfolg.testpr.config.TaskProperties;
+import com.anderfolg.testpr.event.TaskChangedEvent;
+import com.anderfolg.testpr.model.DTO.TaskStats;
+import com.anderfolg.testpr.model.Task;
+import com.anderfolg.testpr.model.enums.Status;
+import com.anderfolg.testpr.model.enums.TaskChangeType;
+import com.anderfolg.testpr.repository.TaskArchiveRepository;
+import com.anderfolg.testpr.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskStatsServiceImplTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskArchiveRepository taskArchiveRepository;
+
+    @Spy
+    private TaskProperties taskProperties = new TaskProperties();
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private TaskStatsServiceImpl underTest;
+
+    @Test
+    public void testGetStats_NoTasks_ReturnsZeroForEveryStatus() {
+        // Act
+        TaskStats stats = underTest.getStats();
+
+        // Assert
+        assertEquals(0L, stats.countsByStatus().get(Status.PENDING));
+        assertEquals(0L, stats.countsByStatus().get(Status.DONE));
+        assertEquals(0, stats.overdue());
+        assertNull(stats.reconciledAt());
+    }
+
+    @Test
+    public void testReconcile_LoadsCountsFromDatabase() {
+        // Arrange
+        LocalDateTime dueMinute = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES);
+        when(taskRepository.countByStatus()).thenReturn(List.of(
+                new Object[]{Status.PENDING, 5L},
+                new Object[]{Status.DONE, 3L}));
+        when(taskArchiveRepository.countByStatus()).thenReturn(List.<Object[]>of(new Object[]{Status.DONE, 4L}));
+        when(taskRepository.countByStatusAndDueDateBefore(eq(Status.PENDING), any())).thenReturn(2L);
+        when(taskRepository.countByStatusAndDueMinuteFrom(eq(Status.PENDING.name()), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{Timestamp.valueOf(dueMinute), 3L}));
+
+        // Act
+        underTest.reconcile();
+        TaskStats stats = underTest.getStats();
+
+        // Assert
+        assertEquals(5L, stats.countsByStatus().get(Status.PENDING));
+        assertEquals(7L, stats.countsByStatus().get(Status.DONE));
+        assertEquals(2, stats.overdue());
+        assertNotNull(stats.reconciledAt());
+    }
+
+    @Test
+    public void testReconcile_ChangeDuringQueries_IsAppliedOnTopOfSnapshot() {
+        // Arrange
+        Task task = task(Status.PENDING, LocalDateTime.now().minusDays(1));
+        when(taskRepository.countByStatus()).thenAnswer(invocation -> {
+            underTest.onTaskChanged(TaskChangedEvent.created(task));
+            return List.<Object[]>of(new Object[]{Status.PENDING, 5L});
+        });
+        when(taskRepository.countByStatusAndDueDateBefore(eq(Status.PENDING), any())).thenReturn(2L);
+
+        // Act
+        underTest.reconcile();
+        TaskStats stats = underTest.getStats();
+
+        // Assert
+        assertEquals(6L, stats.countsByStatus().get(Status.PENDING));
+        assertEquals(3, stats.overdue());
+    }
+
+    @Test
+    public void testOnTaskChanged_CreatedOverdueTask_CountsPendingAndOverdue() {
+        // Arrange
+        Task task = task(Status.PENDING, LocalDateTime.now().minusDays(1));
+
+        // Act
+        underTest.onTaskChanged(TaskChangedEvent.created(task));
+        TaskStats stats = underTest.getStats();
+
+        // Assert
+        assertEquals(1L, stats.countsByStatus().get(Status.PENDING));
+        assertEquals(1, stats.overdue());
+    }
+
+    @Test
+    public void testOnTaskChanged_StatusChangedToDone_MovesCountAndClearsOverdue() {
+        // Arrange
+        Task pending = task(Status.PENDING, LocalDateTime.now().minusDays(1));
+        Task done = pending.toBuilder().status(Status.DONE).build();
+        underTest.onTaskChanged(TaskChangedEvent.created(pending));
+
+        // Act
+        underTest.onTaskChanged(TaskChangedEvent.of(TaskChangeType.STATUS_CHANGED, done, pending));
+        TaskStats stats = underTest.getStats();
+
+        // Assert
+        assertEquals(0L, stats.countsByStatus().get(Status.PENDING));
+        assertEquals(1L, stats.countsByStatus().get(Status.DONE));
+        assertEquals(0, stats.overdue());
+    }
+
+    @Test
+    public void testOnTaskChanged_DueDateMovedIntoPast_BecomesOverdue() {
+        // Arrange
+        Task upcoming = task(Status.PENDING, LocalDateTime.now().plusDays(1));
+        Task late = upcoming.toBuilder().dueDate(LocalDateTime.now().minusDays(1)).build();
+        underTest.onTaskChanged(TaskChangedEvent.created(upcoming));
+        assertEquals(0, underTest.getStats().overdue());
+
+        // Act
+        underTest.onTaskChanged(TaskChangedEvent.of(TaskChangeType.UPDATED, late, upcoming));
+        TaskStats stats = underTest.getStats();
+
+        // Assert
+        assertEquals(1L, stats.countsByStatus().get(Status.PENDING));
+        assertEquals(1, stats.overdue());
+    }
+
+    @Test
+    public void testOnTaskChanged_Deleted_DecrementsCounts() {
+        // Arrange
+        Task task = task(Status.PENDING, LocalDateTime.now().minusDays(1));
+        underTest.onTaskChanged(TaskChangedEvent.created(task));
+
+        // Act
+        underTest.onTaskChanged(TaskChangedEvent.deleted(task));
+        TaskStats stats = underTest.getStats();
+
+        // Assert
+        assertEquals(0L, stats.countsByStatus().get(Status.PENDING));
+        assertEquals(0, stats.overdue());
+    }
+
+    private static Task task( Status status, LocalDateTime dueDate) {
+        return new Task(1L, "Task", "Description", status, LocalDateTime.now(), dueDate, 0L);
+    }
+}
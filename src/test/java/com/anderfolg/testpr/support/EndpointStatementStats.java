@@ -0,0 +1,94 @@
+package com.anderfolg.testpr.support;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Servlet filter that adds up the requests and the SQL statements counted by {@link SqlStatementCounter} per endpoint,
+ * e.g. `GET /tasks/{id}`. Statements run on other threads than the request's, such as background jobs, are not counted.
+ */
+public class EndpointStatementStats extends OncePerRequestFilter {
+
+    private final Map<String, Totals> totals = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal( HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String endpoint = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+            totals.computeIfAbsent(endpoint, key -> new Totals()).add(SqlStatementCounter.reset());
+        }
+    }
+
+    /**
+     * Returns the number of requests to the endpoint recorded since the last {@link #clear()}. A request is recorded
+     * once this filter returns, which can be shortly after its client has received the response.
+     */
+    public long requests( String endpoint) {
+        Totals endpointTotals = totals.get(endpoint);
+        return endpointTotals == null ? 0 : endpointTotals.requests();
+    }
+
+    /**
+     * Returns the number of requests to all endpoints recorded since the last {@link #clear()}.
+     */
+    public long totalRequests() {
+        return totals.values().stream().mapToLong(Totals::requests).sum();
+    }
+
+    /**
+     * Returns the average number of statements per request to the endpoint since the last {@link #clear()},
+     * or NaN if it was not called.
+     */
+    public double statementsPerRequest( String endpoint) {
+        Totals endpointTotals = totals.get(endpoint);
+        return endpointTotals == null ? Double.NaN : endpointTotals.statementsPerRequest();
+    }
+
+    /**
+     * Returns the request count and average statements per request of every endpoint called since the last
+     * {@link #clear()}, one line per endpoint.
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        new TreeMap<>(totals).forEach((endpoint, endpointTotals) -> report.append(String.format("%-36s %10d requests %8.2f statements/request%n",
+                endpoint, endpointTotals.requests(), endpointTotals.statementsPerRequest())));
+        return report.toString();
+    }
+
+    public void clear() {
+        totals.clear();
+    }
+
+    private static final class Totals {
+
+        private long requests;
+        private long statements;
+
+        synchronized void add( long requestStatements) {
+            requests++;
+            statements += requestStatements;
+        }
+
+        synchronized long requests() {
+            return requests;
+        }
+
+        synchronized double statementsPerRequest() {
+            return requests == 0 ? Double.NaN : (double) statements / requests;
+        }
+    }
+}
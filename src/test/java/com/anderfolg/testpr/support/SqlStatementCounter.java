@@ -0,0 +1,32 @@
+package com.anderfolg.testpr.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. Enable it with
+ * `spring.jpa.properties.hibernate.session_factory.statement_inspector` set to {@link #PROPERTY_VALUE}.
+ * A JDBC batch counts once, however many rows it writes.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    public static final String PROPERTY = "spring.jpa.properties.hibernate.session_factory.statement_inspector";
+    public static final String PROPERTY_VALUE = "com.anderfolg.testpr.support.SqlStatementCounter";
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect( String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * Returns the statements counted on this thread since the previous call, and starts counting again from zero.
+     */
+    public static long reset() {
+        long[] count = COUNT.get();
+        long counted = count[0];
+        count[0] = 0;
+        return counted;
+    }
+}
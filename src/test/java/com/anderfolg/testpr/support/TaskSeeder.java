@@ -0,0 +1,52 @@
+package com.anderfolg.testpr.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Seeds the task table of a migrated Postgres database with generated rows, in chunks of one statement each so
+ * millions of rows take seconds rather than going through JPA. Statuses are spread evenly, creation times over the
+ * last 60 days and due dates over the next 30 days. Each description holds two words of {@link #WORDS}, so a text
+ * search for two of them matches about one task in 256.
+ */
+public final class TaskSeeder {
+
+    public static final List<String> WORDS = List.of("invoice", "report", "review", "meeting", "deploy", "budget",
+            "travel", "hiring", "audit", "launch", "survey", "backup", "contract", "training", "refund", "roadmap");
+
+    private static final int CHUNK_SIZE = 500_000;
+
+    private static final String INSERT_TASKS = """
+            INSERT INTO task (id, task_name, description, status, created_at, due_date, version)
+            SELECT nextval('task_seq'),
+                   'Task ' || g,
+                   'Seeded ' || (?::text[])[(1 + g %% %1$d)::int] || ' ' || (?::text[])[(1 + g / %1$d %% %1$d)::int] || ' task ' || g,
+                   (ARRAY['PENDING', 'OVERDUE', 'DONE'])[(1 + g %% 3)::int],
+                   localtimestamp - make_interval(mins => (g %% 86400)::int),
+                   localtimestamp + make_interval(mins => (g %% 43200)::int),
+                   0
+            FROM generate_series(?::bigint, ?::bigint) g
+            """.formatted(WORDS.size());
+
+    private TaskSeeder() {
+    }
+
+    /**
+     * Inserts `rows` tasks and refreshes the planner statistics of the table.
+     */
+    public static void seed( JdbcTemplate jdbcTemplate, long rows) {
+        String words = "{" + String.join(",", WORDS) + "}";
+        for (long from = 1; from <= rows; from += CHUNK_SIZE) {
+            jdbcTemplate.update(INSERT_TASKS, words, words, from, Math.min(from + CHUNK_SIZE - 1, rows));
+        }
+        jdbcTemplate.execute("ANALYZE task");
+    }
+
+    /**
+     * Returns up to `limit` random task IDs.
+     */
+    public static List<Long> sampleIds( JdbcTemplate jdbcTemplate, int limit) {
+        return jdbcTemplate.queryForList("SELECT id FROM task ORDER BY random() LIMIT ?", Long.class, limit);
+    }
+}
@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# Compares how fast each build of the application takes traffic and how much memory it holds by then.
+# Build first with `mvn -Pfast-startup -DskipTests package` (and optionally `mvn -Pnative native:compile`),
+# and have the database from application.yml running. Each mode is started RUNS times; the time is measured
+# until /api/actuator/health first answers 200, and the resident set size (RSS) is read at that moment.
+# Linux only: RSS comes from /proc.
+# No results have been recorded yet; the fast-startup profile stays unverified until this has been run.
+set -euo pipefail
+
+TARGET=${TARGET:-target}
+PORT=${PORT:-8080}
+RUNS=${RUNS:-5}
+JAR="$TARGET/testpr-0.0.1-SNAPSHOT.jar"
+HEALTH="http://localhost:$PORT/api/actuator/health"
+
+measure() {
+    local name=$1
+    shift
+    local total_ms=0 total_rss=0
+    for ((run = 1; run <= RUNS; run++)); do
+        local start
+        start=$(date +%s%N)
+        "$@" --server.port="$PORT" >/dev/null 2>&1 &
+        local pid=$!
+        until curl -sf -o /dev/null "$HEALTH"; do
+            if ! kill -0 "$pid" 2>/dev/null; then
+                echo "$name: the application exited before it was ready" >&2
+                return 1
+            fi
+            sleep 0.01
+        done
+        local ready_ms=$((($(date +%s%N) - start) / 1000000))
+        local rss_kb
+        rss_kb=$(awk '/^VmRSS:/ { print $2 }' "/proc/$pid/status")
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+        total_ms=$((total_ms + ready_ms))
+        total_rss=$((total_rss + rss_kb))
+    done
+    printf '%-12s %8d ms %8d MB\n' "$name" $((total_ms / RUNS)) $((total_rss / RUNS / 1024))
+}
+
+printf '%-12s %11s %11s\n' "mode" "ready" "RSS"
+measure "jvm" java -jar "$TARGET/testpr-0.0.1-SNAPSHOT-exec.jar"
+measure "aot" java -Dspring.aot.enabled=true -jar "$JAR"
+measure "aot+cds" java -XX:SharedArchiveFile="$TARGET/application.jsa" -Dspring.aot.enabled=true -jar "$JAR"
+if [[ -x "$TARGET/testpr" ]]; then
+    measure "native" "$TARGET/testpr"
+fi